@@ -0,0 +1,83 @@
+package com.lms.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.dto.response.ApiResponse;
+import com.lms.dto.response.AuthResponse;
+import com.lms.dto.response.ChildProgressSummary;
+import com.lms.dto.response.ParentOverviewResponse;
+import com.lms.entity.ParentType;
+import com.lms.entity.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ApiResponse} serialization with an ObjectMapper configured the way Spring MVC builds its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<AuthResponse> login;
+    private ApiResponse<ParentOverviewResponse> overview;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        login = ApiResponse.success("Login successful", AuthResponse.builder()
+                .token(BenchmarkFixtures.jwtUtil().generateToken(BenchmarkFixtures.USERNAME))
+                .tokenType("Bearer")
+                .id(1L)
+                .username(BenchmarkFixtures.USERNAME)
+                .email("superadmin@yopmail.com")
+                .role(Role.ADMIN)
+                .build());
+
+        List<ChildProgressSummary> children = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            children.add(ChildProgressSummary.builder()
+                    .childId(id)
+                    .name("Child " + id)
+                    .totalEnrollments(12)
+                    .completedEnrollments(5)
+                    .inProgressEnrollments(7)
+                    .averageProgress(63.5)
+                    .build());
+        }
+        overview = ApiResponse.success("Family overview retrieved successfully", ParentOverviewResponse.builder()
+                .parentId(1L)
+                .name("Parent")
+                .parentType(ParentType.DECIDING)
+                .children(children)
+                .build());
+    }
+
+    @Benchmark
+    public byte[] login() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(login);
+    }
+
+    @Benchmark
+    public byte[] familyOverview() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(overview);
+    }
+}
@@ -0,0 +1,127 @@
+package com.lms.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result with the stored baseline and prints the change per benchmark.
+ * <p>
+ * Usage: {@code BaselineComparison <baseline.json> <result.json> <threshold-percent> <fail-on-regression>}
+ * <p>
+ * A benchmark regresses when its score is worse than the baseline by more than the threshold and by more
+ * than the two error margins combined. Allocation ({@code gc.alloc.rate.norm}, bytes per operation) is
+ * reported alongside, since allocation regressions show up there before they show up in latency.
+ */
+public final class BaselineComparison {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <result.json> [threshold-percent] [fail-on-regression]");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[0]);
+        File resultFile = new File(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        boolean failOnRegression = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+        if (!resultFile.isFile()) {
+            System.err.println("No benchmark result at " + resultFile);
+            System.exit(2);
+        }
+        if (!baselineFile.isFile()) {
+            System.out.println("No baseline at " + baselineFile + "; copy " + resultFile + " there to create one.");
+            return;
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(mapper.readTree(baselineFile));
+        Map<String, JsonNode> result = index(mapper.readTree(resultFile));
+
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-75s %12s %12s %8s %14s %14s%n",
+                "Benchmark", "Baseline", "Current", "Change", "Alloc base", "Alloc now");
+        for (Map.Entry<String, JsonNode> entry : result.entrySet()) {
+            JsonNode current = entry.getValue();
+            JsonNode previous = baseline.get(entry.getKey());
+            JsonNode metric = current.path("primaryMetric");
+            String unit = metric.path("scoreUnit").asText();
+
+            if (previous == null) {
+                System.out.printf(Locale.ROOT, "%-75s %12s %12s %8s%n",
+                        entry.getKey(), "-", format(metric.path("score").asDouble(), unit), "new");
+                continue;
+            }
+
+            JsonNode previousMetric = previous.path("primaryMetric");
+            double before = previousMetric.path("score").asDouble();
+            double after = metric.path("score").asDouble();
+            double change = before == 0 ? 0 : (after - before) / before * 100;
+            // Average time and sample time get worse as they grow, throughput as it shrinks
+            double worsening = "thrpt".equals(current.path("mode").asText()) ? -change : change;
+            double margin = errorOf(previousMetric) + errorOf(metric);
+            boolean regressed = worsening > threshold && Math.abs(after - before) > margin;
+            if (regressed) {
+                regressions++;
+            }
+
+            System.out.printf(Locale.ROOT, "%-75s %12s %12s %+7.1f%% %14s %14s%s%n",
+                    entry.getKey(),
+                    format(before, unit),
+                    format(after, unit),
+                    change,
+                    allocation(previous),
+                    allocation(current),
+                    regressed ? "  REGRESSION" : "");
+        }
+
+        for (String missing : baseline.keySet()) {
+            if (!result.containsKey(missing)) {
+                System.out.printf(Locale.ROOT, "%-75s %12s%n", missing, "not run");
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "%d regression(s) beyond %.0f%%%n", regressions, threshold);
+        if (regressions > 0 && failOnRegression) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replace("com.lms.benchmark.", ""));
+            Map<String, String> params = new TreeMap<>();
+            result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            indexed.put(key.toString(), result);
+        }
+        return indexed;
+    }
+
+    private static double errorOf(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static String allocation(JsonNode result) {
+        JsonNode metric = result.path("secondaryMetrics").path(ALLOCATION);
+        return metric.isMissingNode() ? "-" : String.format(Locale.ROOT, "%.0f B/op", metric.path("score").asDouble());
+    }
+
+    private static String format(double score, String unit) {
+        return String.format(Locale.ROOT, "%.3f %s", score, unit);
+    }
+}
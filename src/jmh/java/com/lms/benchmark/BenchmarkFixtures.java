@@ -0,0 +1,80 @@
+package com.lms.benchmark;
+
+import com.lms.entity.Role;
+import com.lms.entity.Roles;
+import com.lms.entity.User;
+import com.lms.repository.RoleRepository;
+import com.lms.service.RoleRegistry;
+import com.lms.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Shared objects for the benchmarks: the application's JWT secret, tokens and users.
+ */
+final class BenchmarkFixtures {
+
+    /** Same value as {@code jwt.secret} in application.properties */
+    static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    static final String USERNAME = "superadmin";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        return jwtUtil;
+    }
+
+    /**
+     * A token as issued by the external identity provider: numeric user id and a roles claim.
+     */
+    static String externalToken(String username, Role role) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject(username)
+                .claim("userId", 4242)
+                .claim("roles", List.of(role.name()))
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    static Roles role(Role role) {
+        return Roles.builder().id((long) role.ordinal() + 1).role(role).description(role.name()).build();
+    }
+
+    /**
+     * A registry over every {@link Role}, with the IDs {@link #role(Role)} assigns.
+     */
+    static RoleRegistry roleRegistry() {
+        // stubOnly: the mock must not record the millions of invocations a run makes
+        RoleRepository roleRepository = mock(RoleRepository.class, withSettings().stubOnly());
+        when(roleRepository.findAll()).thenReturn(Arrays.stream(Role.values()).map(BenchmarkFixtures::role).toList());
+        return new RoleRegistry(roleRepository);
+    }
+
+    static User user(String username, Role role) {
+        return User.builder()
+                .id(1L)
+                .username(username)
+                .email(username + "@yopmail.com")
+                .roles(role(role))
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.lms.benchmark;
+
+import com.lms.entity.Role;
+import com.lms.security.ExternalTokenPayload;
+import com.lms.security.ExternalTokenVerifier;
+import com.lms.security.TokenValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * External token verification through {@link ExternalTokenVerifier}, with the role registry over stubbed rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExternalTokenVerifierBenchmark {
+
+    private ExternalTokenVerifier verifier;
+    private String token;
+    private String malformedToken;
+
+    @Setup
+    public void setUp() {
+        verifier = new ExternalTokenVerifier(BenchmarkFixtures.SECRET, BenchmarkFixtures.roleRegistry());
+        token = BenchmarkFixtures.externalToken("child-4242", Role.CHILD);
+        malformedToken = "not-a.jwt.token";
+    }
+
+    @Benchmark
+    public ExternalTokenPayload verify() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public Object verifyMalformed() {
+        try {
+            return verifier.verify(malformedToken);
+        } catch (TokenValidationException ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.lms.benchmark;
+
+import com.lms.entity.Role;
+import com.lms.repository.ChildRepository;
+import com.lms.repository.ParentRepository;
+import com.lms.repository.UserRepository;
+import com.lms.security.AuthenticationMetrics;
+import com.lms.security.ExternalTokenVerifier;
+import com.lms.security.JwtAuthenticationFilter;
+import com.lms.service.RoleRegistry;
+import com.lms.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * The whole {@link JwtAuthenticationFilter} pass, with repositories stubbed so only the filter's own work,
+ * token handling and metrics are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    /**
+     * internal: valid LMS token for an existing user; rejected: a token neither verifier accepts;
+     * anonymous: no Authorization header
+     */
+    @Param({"internal", "rejected", "anonymous"})
+    public String scenario;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+
+        // stubOnly: the mocks must not record the millions of invocations a run makes
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findByUsername(BenchmarkFixtures.USERNAME))
+                .thenReturn(Optional.of(BenchmarkFixtures.user(BenchmarkFixtures.USERNAME, Role.ADMIN)));
+        RoleRegistry roleRegistry = BenchmarkFixtures.roleRegistry();
+
+        filter = new JwtAuthenticationFilter(
+                jwtUtil,
+                new ExternalTokenVerifier(BenchmarkFixtures.SECRET, roleRegistry),
+                userRepository,
+                roleRegistry,
+                mock(ChildRepository.class, withSettings().stubOnly()),
+                mock(ParentRepository.class, withSettings().stubOnly()),
+                new AuthenticationMetrics(new SimpleMeterRegistry()));
+
+        request = new MockHttpServletRequest("GET", "/api/v1/admin/cache/stats");
+        switch (scenario) {
+            case "internal" -> request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken(BenchmarkFixtures.USERNAME));
+            case "rejected" -> request.addHeader("Authorization", "Bearer not-a.jwt.token");
+            default -> { }
+        }
+    }
+
+    @Benchmark
+    public int doFilter() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,423 @@
+package com.lms.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synthetic dataset generator that streams rows into Postgres with COPY, several connections at a time.
+ * <p>
+ * Per scale unit: 10,000 parents with one to five children (35/40/18/5/2%), a user per parent and child,
+ * 200 courses with Zipf-distributed popularity, and one to ten enrollments per child with progress clustered
+ * at not started, completed and spread in between. Creation times are spread over the last two years.
+ * <p>
+ * Ids for parents, children, users and courses are reserved from their identity sequences up front, so foreign
+ * keys can be written by parallel COPY streams and later application inserts carry on after the generated rows.
+ * Rows are split into fixed-size chunks, each with its own random stream derived from the seed, so a given
+ * seed and scale produce the same rows whatever the thread count. Run against a quiet database: the
+ * reservation is not atomic with respect to concurrent inserts.
+ * <p>
+ * Standalone: {@code mvn -Ploadtest test-compile exec:exec@dataset -Ddataset.scale=100}, see pom.xml.
+ */
+public final class DatasetGenerator {
+
+    /** Password of every generated user */
+    static final String PASSWORD = "Admin@123";
+
+    /** BCrypt (strength 10) of {@link #PASSWORD}, the same hash migration V6 seeds for superadmin */
+    private static final String PASSWORD_HASH = "$2a$10$lJJ640PgrhG7Gyrs8HHJMOTkhlEQU1h00iD8pmvYzKHfRclzkHTzK";
+
+    private static final int PARENTS_PER_SCALE = 10_000;
+    private static final int COURSES_PER_SCALE = 200;
+    private static final int CHUNK_SIZE = 20_000;
+    private static final double COURSE_POPULARITY_EXPONENT = 1.1;
+
+    /** Cumulative share of families with 1, 2, 3, 4 and 5 children */
+    private static final double[] FAMILY_SIZE_CDF = {0.35, 0.75, 0.93, 0.98, 1.0};
+
+    private static final String[] CATEGORIES = {"MATH", "SCIENCE", "LANGUAGE", "ARTS", "HISTORY", "MUSIC", "CODING"};
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final String prefix;
+    private final int scale;
+    private final long seed;
+    private final int threads;
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    /**
+     * @param prefix  username prefix; generated users are {@code <prefix>_parent_<id>} and {@code <prefix>_child_<id>}
+     * @param scale   scale factor, 10,000 families each
+     * @param seed    random seed
+     * @param threads parallel COPY streams
+     */
+    public DatasetGenerator(String jdbcUrl, String username, String password,
+                            String prefix, int scale, long seed, int threads) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        this.prefix = prefix;
+        this.scale = scale;
+        this.seed = seed;
+        this.threads = Math.max(1, threads);
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetGenerator generator = new DatasetGenerator(
+                property("jdbc-url", "jdbc:postgresql://localhost:5432/lms_db"),
+                property("jdbc-username", "postgres"),
+                property("jdbc-password", "postgres"),
+                property("prefix", "gen"),
+                Integer.parseInt(property("scale", "1")),
+                Long.parseLong(property("seed", "42")),
+                Integer.parseInt(property("threads", String.valueOf(Runtime.getRuntime().availableProcessors()))));
+        generator.generate();
+    }
+
+    /**
+     * Generate the dataset
+     *
+     * @return rows written per table
+     */
+    public Map<String, Long> generate() throws Exception {
+        int parents = PARENTS_PER_SCALE * scale;
+        int courses = COURSES_PER_SCALE * scale;
+
+        // Family sizes up front: child ids of a family are its parent's offset into the running total
+        int[] firstChild = new int[parents + 1];
+        SplittableRandom families = new SplittableRandom(seed);
+        for (int i = 0; i < parents; i++) {
+            firstChild[i + 1] = firstChild[i] + familySize(families);
+        }
+        int children = firstChild[parents];
+
+        Map<String, Long> rows = new HashMap<>();
+        Ids ids;
+        Map<String, Long> roles;
+        try (Connection connection = connect()) {
+            roles = roles(connection);
+            ids = new Ids(
+                    reserve(connection, "parent", parents),
+                    reserve(connection, "child", children),
+                    reserve(connection, "users", parents + children),
+                    reserve(connection, "courses", courses));
+        }
+        double[] popularity = zipfCdf(courses);
+
+        log("Generating scale " + scale + " (seed " + seed + ", " + threads + " streams): "
+                + parents + " parents, " + children + " children, " + courses + " courses");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            // Each phase only references rows committed by an earlier one
+            rows.putAll(phase(executor,
+                    copy("parent", "id, external_child_id, name, user_name, user_email, gender, parent_type, created_at, updated_at",
+                            parents, (random, i, out) -> {
+                                long id = ids.parent + i;
+                                row(out, id, id, "Parent " + id, prefix + "_parent_" + id, prefix + "_parent_" + id + "@generated.test",
+                                        random.nextBoolean() ? "FEMALE" : "MALE",
+                                        parentType(i), created(random), now);
+                                return 1;
+                            }),
+                    copy("courses", "id, title, description, category, is_active, created_at, updated_at",
+                            courses, (random, i, out) -> {
+                                long id = ids.course + i;
+                                row(out, id, "Course " + id, "Generated course, popularity rank " + (i + 1),
+                                        CATEGORIES[random.nextInt(CATEGORIES.length)], random.nextInt(20) != 0,
+                                        created(random), now);
+                                return 1;
+                            })));
+
+            rows.putAll(phase(executor,
+                    copy("child", "id, external_child_id, name, user_name, case_number, gender, parent_id, created_at, updated_at",
+                            parents, (random, i, out) -> {
+                                for (int c = firstChild[i]; c < firstChild[i + 1]; c++) {
+                                    long id = ids.child + c;
+                                    row(out, id, id, "Child " + id, prefix + "_child_" + id, "CASE-" + id,
+                                            random.nextBoolean() ? "FEMALE" : "MALE", ids.parent + i, created(random), now);
+                                }
+                                return firstChild[i + 1] - firstChild[i];
+                            })));
+
+            rows.putAll(phase(executor,
+                    copy("users", "id, username, email, password, role_id, is_active, parent_id, child_id, created_at, updated_at",
+                            parents, (random, i, out) -> {
+                                long parentId = ids.parent + i;
+                                long role = roles.get(parentType(i).equals("DECIDING") ? "DECIDING_PARENT" : "NON_DECIDING_PARENT");
+                                row(out, ids.user + i, prefix + "_parent_" + parentId, prefix + "_parent_" + parentId + "@generated.test",
+                                        PASSWORD_HASH, role, true, parentId, null, created(random), now);
+                                for (int c = firstChild[i]; c < firstChild[i + 1]; c++) {
+                                    long childId = ids.child + c;
+                                    row(out, ids.user + parents + c, prefix + "_child_" + childId, prefix + "_child_" + childId + "@generated.test",
+                                            PASSWORD_HASH, roles.get("CHILD"), true, null, childId, created(random), now);
+                                }
+                                return 1 + firstChild[i + 1] - firstChild[i];
+                            })));
+
+            rows.putAll(phase(executor,
+                    copy("enrollments", "child_id, course_id, progress_percentage, is_completed, version, created_at, updated_at",
+                            parents, (random, i, out) -> {
+                                int written = 0;
+                                for (int c = firstChild[i]; c < firstChild[i + 1]; c++) {
+                                    long childUserId = ids.user + parents + c;
+                                    // One to ten courses, geometric-like: most children take a few, some take many
+                                    int count = Math.min(Math.min(courses, 10), 1 + (int) (-Math.log(1 - random.nextDouble()) * 3));
+                                    int[] chosen = new int[count];
+                                    for (int e = 0; e < count; e++) {
+                                        chosen[e] = distinctCourse(random, popularity, chosen, e);
+                                        int progress = progress(random);
+                                        row(out, childUserId, ids.course + chosen[e], progress, progress == 100, 0, created(random), now);
+                                    }
+                                    written += count;
+                                }
+                                return written;
+                            })));
+
+            try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE parent, child, users, courses, enrollments");
+            }
+
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            long total = rows.values().stream().mapToLong(Long::longValue).sum();
+            log("Wrote " + total + " rows in " + millis + " ms (" + (total * 1000 / Math.max(1, millis)) + " rows/s): " + rows);
+            return rows;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Id ranges reserved from the identity sequences */
+    private record Ids(long parent, long child, long user, long course) {
+    }
+
+    /** Writes the rows of one source index (a parent or a course) and returns how many it wrote */
+    @FunctionalInterface
+    private interface RowWriter {
+        int write(SplittableRandom random, int index, Writer out) throws IOException;
+    }
+
+    /** One table's rows, split into chunks of source indexes */
+    private record TableCopy(String table, String columns, int sources, RowWriter writer) {
+    }
+
+    private static TableCopy copy(String table, String columns, int sources, RowWriter writer) {
+        return new TableCopy(table, columns, sources, writer);
+    }
+
+    private Map<String, Long> phase(ExecutorService executor, TableCopy... copies) throws Exception {
+        List<Future<Long>> futures = new ArrayList<>();
+        List<String> tables = new ArrayList<>();
+        for (TableCopy copy : copies) {
+            for (int from = 0; from < copy.sources(); from += CHUNK_SIZE) {
+                int chunkFrom = from;
+                int chunkTo = Math.min(copy.sources(), from + CHUNK_SIZE);
+                tables.add(copy.table());
+                futures.add(executor.submit(() -> copyChunk(copy, chunkFrom, chunkTo)));
+            }
+        }
+        Map<String, Long> rows = new HashMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            rows.merge(tables.get(i), futures.get(i).get(), Long::sum);
+        }
+        return rows;
+    }
+
+    private long copyChunk(TableCopy copy, int from, int to) throws SQLException, IOException {
+        // The chunk's random stream depends only on the seed, the table and the chunk's position
+        SplittableRandom random = new SplittableRandom(seed * 1_000_003L + copy.table().hashCode() * 31L + from);
+        long written = 0;
+        try (Connection connection = connect()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET synchronous_commit = off");
+            }
+            String sql = "COPY " + copy.table() + " (" + copy.columns() + ") FROM STDIN";
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, 1 << 16), StandardCharsets.UTF_8), 1 << 16)) {
+                for (int i = from; i < to; i++) {
+                    written += copy.writer().write(random, i, out);
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Write one row in COPY text format
+     */
+    private static void row(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write('\t');
+            }
+            Object value = values[i];
+            if (value == null) {
+                out.write("\\N");
+            } else if (value instanceof LocalDateTime timestamp) {
+                out.write(TIMESTAMP.format(timestamp));
+            } else if (value instanceof Boolean bool) {
+                out.write(bool ? "t" : "f");
+            } else {
+                escape(out, value.toString());
+            }
+        }
+        out.write('\n');
+    }
+
+    private static void escape(Writer out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                default -> out.write(c);
+            }
+        }
+    }
+
+    private static int familySize(SplittableRandom random) {
+        double draw = random.nextDouble();
+        for (int size = 0; size < FAMILY_SIZE_CDF.length; size++) {
+            if (draw < FAMILY_SIZE_CDF[size]) {
+                return size + 1;
+            }
+        }
+        return FAMILY_SIZE_CDF.length;
+    }
+
+    private static String parentType(int index) {
+        return index % 5 == 4 ? "NON_DECIDING" : "DECIDING";
+    }
+
+    /** Zero-based course rank drawn from the Zipf distribution, different from the ones already chosen */
+    private static int distinctCourse(SplittableRandom random, double[] cdf, int[] chosen, int count) {
+        while (true) {
+            double draw = random.nextDouble();
+            int low = 0;
+            int high = cdf.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cdf[mid] < draw) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            boolean taken = false;
+            for (int i = 0; i < count; i++) {
+                taken |= chosen[i] == low;
+            }
+            if (!taken) {
+                return low;
+            }
+        }
+    }
+
+    private static double[] zipfCdf(int courses) {
+        double[] cdf = new double[courses];
+        double total = 0;
+        for (int rank = 0; rank < courses; rank++) {
+            total += 1 / Math.pow(rank + 1, COURSE_POPULARITY_EXPONENT);
+            cdf[rank] = total;
+        }
+        for (int rank = 0; rank < courses; rank++) {
+            cdf[rank] /= total;
+        }
+        return cdf;
+    }
+
+    /** 25% not started, 15% completed, the rest spread with more weight on early progress */
+    private static int progress(SplittableRandom random) {
+        double draw = random.nextDouble();
+        if (draw < 0.25) {
+            return 0;
+        }
+        if (draw < 0.40) {
+            return 100;
+        }
+        return 1 + (int) (99 * Math.pow(random.nextDouble(), 1.5));
+    }
+
+    private LocalDateTime created(SplittableRandom random) {
+        return now.minusMinutes(random.nextLong(TimeUnit.DAYS.toMinutes(730)));
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(jdbcUrl, username, password);
+    }
+
+    private static Map<String, Long> roles(Connection connection) throws SQLException {
+        Map<String, Long> roles = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT role, id FROM roles")) {
+            while (rs.next()) {
+                roles.put(rs.getString(1), rs.getLong(2));
+            }
+        }
+        for (String role : List.of("CHILD", "DECIDING_PARENT", "NON_DECIDING_PARENT")) {
+            if (!roles.containsKey(role)) {
+                throw new IllegalStateException("Role " + role + " missing; run the migrations first");
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * Reserve {@code count} ids from a table's identity sequence
+     *
+     * @return the first reserved id
+     */
+    private static long reserve(Connection connection, String table, long count) throws SQLException {
+        if (count == 0) {
+            return 1;
+        }
+        // Ids may also have been written explicitly, past the sequence; start after both
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT setval(s.seq, greatest(nextval(s.seq), (SELECT coalesce(max(id), 0) + 1 FROM %s)) + ? - 1) - ? + 1
+                FROM (SELECT pg_get_serial_sequence(?, 'id') AS seq) s
+                """.formatted(table))) {
+            statement.setLong(1, count);
+            statement.setLong(2, count);
+            statement.setString(3, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("dataset." + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private static void log(String message) {
+        System.out.println("[dataset] " + message);
+    }
+}
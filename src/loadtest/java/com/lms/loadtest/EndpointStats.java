@@ -0,0 +1,84 @@
+package com.lms.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Response times and outcomes of one endpoint during the measured phase.
+ * Response time runs from the request's scheduled arrival, not from when it was sent, so a stalled server
+ * shows up as queueing delay instead of being hidden by the generator waiting on it.
+ */
+final class EndpointStats {
+
+    /** Status recorded for requests that failed without a response (connection refused, timeout) */
+    static final int TRANSPORT_ERROR = 0;
+
+    private final String name;
+    private final Histogram responseTimes = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(2), 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(int status, long responseTimeNanos) {
+        responseTimes.recordValue(Math.min(responseTimes.getHighestTrackableValue(),
+                Math.max(1, TimeUnit.NANOSECONDS.toMicros(responseTimeNanos))));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (status < 200 || status >= 400) {
+            errors.increment();
+        }
+    }
+
+    void drop() {
+        dropped.increment();
+        errors.increment();
+    }
+
+    String name() {
+        return name;
+    }
+
+    /** Requests that got a response or failed in transport; dropped arrivals are not included */
+    long count() {
+        return responseTimes.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    /** Percentile response time in milliseconds */
+    double percentileMillis(double percentile) {
+        return responseTimes.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double maxMillis() {
+        return responseTimes.getMaxValue() / 1000.0;
+    }
+
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    void addTo(EndpointStats total) {
+        total.responseTimes.add(responseTimes);
+        statuses.forEach((status, count) -> total.statuses.computeIfAbsent(status, key -> new LongAdder()).add(count.sum()));
+        total.errors.add(errors.sum());
+        total.dropped.add(dropped.sum());
+    }
+}
@@ -0,0 +1,136 @@
+package com.lms.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-endpoint throughput, error rate and response-time percentiles, printed as a table and written as JSON.
+ * A JSON report from an earlier build can be passed back in to print the differences.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final LoadTestSettings settings;
+    private final Duration duration;
+    private final List<EndpointStats> endpoints;
+
+    LoadReport(LoadTestSettings settings, Map<String, EndpointStats> stats) {
+        this.settings = settings;
+        this.duration = settings.duration();
+        this.endpoints = new ArrayList<>(stats.values());
+        EndpointStats total = new EndpointStats("ALL");
+        stats.values().forEach(endpoint -> endpoint.addTo(total));
+        this.endpoints.add(total);
+    }
+
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%nOpen model, %.1f req/s offered for %ds after %ds warm-up%n",
+                settings.rate(), duration.toSeconds(), settings.warmUp().toSeconds());
+        out.printf(Locale.ROOT, "%-10s %8s %9s %8s %8s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint", "count", "req/s", "errors", "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses");
+        for (EndpointStats endpoint : endpoints) {
+            out.printf(Locale.ROOT, "%-10s %8d %9.1f %7.2f%% %8d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    endpoint.name(),
+                    endpoint.count(),
+                    throughput(endpoint),
+                    errorRate(endpoint),
+                    endpoint.dropped(),
+                    endpoint.percentileMillis(50),
+                    endpoint.percentileMillis(90),
+                    endpoint.percentileMillis(99),
+                    endpoint.percentileMillis(99.9),
+                    endpoint.maxMillis(),
+                    endpoint.statuses());
+        }
+    }
+
+    Path write(Path directory) throws IOException {
+        ObjectNode root = mapper.createObjectNode();
+        root.put("finishedAt", Instant.now().toString());
+        ObjectNode parameters = root.putObject("settings");
+        parameters.put("rate", settings.rate());
+        parameters.put("warmUpSeconds", settings.warmUp().toSeconds());
+        parameters.put("durationSeconds", duration.toSeconds());
+        parameters.put("scale", settings.scale());
+        parameters.put("seed", settings.seed());
+        parameters.put("mix", settings.mix().toString());
+        parameters.put("appJvmArgs", String.join(" ", settings.appJvmArgs()));
+        parameters.put("embeddedDatabase", settings.embeddedDatabase());
+
+        ArrayNode list = root.putArray("endpoints");
+        for (EndpointStats endpoint : endpoints) {
+            ObjectNode node = list.addObject();
+            node.put("name", endpoint.name());
+            node.put("count", endpoint.count());
+            node.put("throughput", throughput(endpoint));
+            node.put("errorRate", errorRate(endpoint));
+            node.put("dropped", endpoint.dropped());
+            for (double percentile : PERCENTILES) {
+                node.put(percentileKey(percentile), endpoint.percentileMillis(percentile));
+            }
+            node.put("maxMillis", endpoint.maxMillis());
+            ObjectNode statuses = node.putObject("statuses");
+            endpoint.statuses().forEach((status, count) -> statuses.put(String.valueOf(status), count));
+        }
+
+        Path file = directory.resolve("report-" + Instant.now().toString().replace(":", "") + ".json");
+        mapper.writeValue(file.toFile(), root);
+        return file;
+    }
+
+    void compare(Path previousReport, PrintStream out) throws IOException {
+        JsonNode previous = mapper.readTree(previousReport.toFile());
+        out.printf(Locale.ROOT, "%nCompared with %s%n", previousReport);
+        out.printf(Locale.ROOT, "%-10s %16s %16s %16s %16s%n", "endpoint", "req/s", "errors", "p50 ms", "p99 ms");
+        for (EndpointStats endpoint : endpoints) {
+            JsonNode before = null;
+            for (JsonNode node : previous.path("endpoints")) {
+                if (endpoint.name().equals(node.path("name").asText())) {
+                    before = node;
+                }
+            }
+            if (before == null) {
+                out.printf(Locale.ROOT, "%-10s %16s%n", endpoint.name(), "new");
+                continue;
+            }
+            out.printf(Locale.ROOT, "%-10s %16s %16s %16s %16s%n",
+                    endpoint.name(),
+                    change(before.path("throughput").asDouble(), throughput(endpoint)),
+                    change(before.path("errorRate").asDouble(), errorRate(endpoint)),
+                    change(before.path(percentileKey(50)).asDouble(), endpoint.percentileMillis(50)),
+                    change(before.path(percentileKey(99)).asDouble(), endpoint.percentileMillis(99)));
+        }
+    }
+
+    private double throughput(EndpointStats endpoint) {
+        return endpoint.count() / (double) duration.toSeconds();
+    }
+
+    private static double errorRate(EndpointStats endpoint) {
+        long attempts = endpoint.count() + endpoint.dropped();
+        return attempts == 0 ? 0 : endpoint.errors() * 100.0 / attempts;
+    }
+
+    private static String percentileKey(double percentile) {
+        return "p" + String.valueOf(percentile).replace(".0", "").replace(".", "_") + "Millis";
+    }
+
+    private static String change(double before, double after) {
+        return String.format(Locale.ROOT, "%.1f -> %.1f", before, after);
+    }
+}
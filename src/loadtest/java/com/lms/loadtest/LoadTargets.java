@@ -0,0 +1,83 @@
+package com.lms.loadtest;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the load-test users written by {@link DatasetGenerator} with the {@code lt} prefix, so the traffic mix
+ * knows whom to log in as and which enrollments each child may touch.
+ */
+final class LoadTargets {
+
+    static final String PREFIX = "lt";
+
+    private LoadTargets() {
+    }
+
+    /**
+     * A parent user and the family it may read.
+     */
+    record ParentTarget(String username, long userId, long parentId, String role) {
+    }
+
+    /**
+     * A child user and its enrollments.
+     */
+    record ChildTarget(String username, long userId, long[] enrollmentIds) {
+    }
+
+    /**
+     * @return whether a generated load-test dataset is already in the database
+     */
+    static boolean present(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet existing = statement.executeQuery("SELECT exists(SELECT 1 FROM users WHERE username LIKE 'lt\\_%')")) {
+            existing.next();
+            return existing.getBoolean(1);
+        }
+    }
+
+    static List<ParentTarget> parents(Connection connection) throws SQLException {
+        List<ParentTarget> parents = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                     SELECT u.username, u.id, u.parent_id, r.role
+                     FROM users u JOIN roles r ON r.id = u.role_id
+                     WHERE u.username LIKE 'lt\\_parent\\_%' AND u.is_deleted = false
+                     ORDER BY u.id
+                     """)) {
+            while (rs.next()) {
+                parents.add(new ParentTarget(rs.getString(1), rs.getLong(2), rs.getLong(3), rs.getString(4)));
+            }
+        }
+        return parents;
+    }
+
+    static List<ChildTarget> children(Connection connection) throws SQLException {
+        List<ChildTarget> children = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                     SELECT u.username, u.id, array_agg(e.id ORDER BY e.id)
+                     FROM users u JOIN enrollments e ON e.child_id = u.id AND e.is_deleted = false
+                     WHERE u.username LIKE 'lt\\_child\\_%' AND u.is_deleted = false
+                     GROUP BY u.username, u.id
+                     ORDER BY u.id
+                     """)) {
+            while (rs.next()) {
+                Array ids = rs.getArray(3);
+                Long[] boxed = (Long[]) ids.getArray();
+                long[] enrollmentIds = new long[boxed.length];
+                for (int i = 0; i < boxed.length; i++) {
+                    enrollmentIds[i] = boxed[i];
+                }
+                children.add(new ChildTarget(rs.getString(1), rs.getLong(2), enrollmentIds));
+            }
+        }
+        return children;
+    }
+}
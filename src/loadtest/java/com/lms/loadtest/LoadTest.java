@@ -0,0 +1,222 @@
+package com.lms.loadtest;
+
+import com.lms.loadtest.LoadTargets.ChildTarget;
+import com.lms.loadtest.LoadTargets.ParentTarget;
+import com.lms.loadtest.OpenModelLoadGenerator.Operation;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test: starts Postgres (embedded unless {@code loadtest.jdbc-url} is set), boots the application
+ * jar against it, generates a dataset with {@link DatasetGenerator} and drives an open-model traffic mix, then reports per endpoint.
+ * <p>
+ * Endpoints in the mix:
+ * <ul>
+ *     <li>{@code login}: username/password login of a seeded user (BCrypt bound)</li>
+ *     <li>{@code roles}: role listing with a child's external-format token</li>
+ *     <li>{@code overview}: a parent's family overview with the parent's external-format token</li>
+ *     <li>{@code history}: progress history of one of a child's enrollments</li>
+ *     <li>{@code increment}: progress increment on one of a child's enrollments</li>
+ * </ul>
+ * Run with {@code mvn -Ploadtest verify}; see the profile in pom.xml for the parameters.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Files.createDirectories(settings.outputDirectory());
+
+        EmbeddedPostgres embedded = null;
+        try {
+            String jdbcUrl = settings.jdbcUrl();
+            String username = settings.jdbcUsername();
+            String password = settings.jdbcPassword();
+            if (settings.embeddedDatabase()) {
+                log("Starting embedded Postgres");
+                embedded = EmbeddedPostgres.builder()
+                        .setServerConfig("max_connections", "100")
+                        .start();
+                jdbcUrl = embedded.getJdbcUrl("postgres", "postgres");
+                username = "postgres";
+                password = "postgres";
+            }
+
+            int port = freePort();
+            Path appLog = settings.outputDirectory().resolve("application.log");
+            log("Starting " + settings.appJar().getFileName() + " on port " + port + " (log: " + appLog + ")");
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            try (ApplicationProcess application = ApplicationProcess.start(
+                    settings.appJar(),
+                    settings.appJvmArgs(),
+                    List.of("--spring.datasource.url=" + jdbcUrl,
+                            "--spring.datasource.username=" + username,
+                            "--spring.datasource.password=" + password,
+                            "--jwt.secret=" + settings.jwtSecret(),
+                            "--logging.level.com.lms=INFO",
+                            "--spring.jpa.show-sql=false"),
+                    port,
+                    appLog)) {
+
+                application.awaitReady(client, Duration.ofMinutes(3));
+
+                List<ParentTarget> parents;
+                List<ChildTarget> children;
+                try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+                    if (LoadTargets.present(connection)) {
+                        log("Reusing the load-test rows already in the database");
+                    } else {
+                        new DatasetGenerator(jdbcUrl, username, password, LoadTargets.PREFIX,
+                                settings.scale(), settings.seed(), Runtime.getRuntime().availableProcessors()).generate();
+                    }
+                    parents = LoadTargets.parents(connection);
+                    children = LoadTargets.children(connection);
+                }
+                log(parents.size() + " parents, " + children.size() + " children");
+
+                List<Operation> operations = operations(settings, application.baseUri(), parents, children);
+                OpenModelLoadGenerator generator = new OpenModelLoadGenerator(
+                        client, operations, settings.rate(), settings.maxInFlight(), settings.seed());
+
+                log("Driving " + settings.rate() + " req/s: " + settings.warmUp().toSeconds() + "s warm-up, "
+                        + settings.duration().toSeconds() + "s measured");
+                LoadReport report = new LoadReport(settings, generator.run(settings.warmUp(), settings.duration()));
+
+                report.print(System.out);
+                log("Report written to " + report.write(settings.outputDirectory()));
+                if (settings.compareWith() != null) {
+                    report.compare(settings.compareWith(), System.out);
+                }
+            }
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    private static List<Operation> operations(LoadTestSettings settings, URI base,
+                                              List<ParentTarget> parents, List<ChildTarget> children) {
+        if (parents.isEmpty() || children.isEmpty()) {
+            throw new IllegalStateException("No load-test users found; was the dataset seeded?");
+        }
+        SecretKey key = Keys.hmacShaKeyFor(settings.jwtSecret().getBytes(StandardCharsets.UTF_8));
+        String[] parentTokens = parents.stream()
+                .map(parent -> externalToken(key, parent.username(), parent.userId(), parent.role()))
+                .toArray(String[]::new);
+        String[] childTokens = children.stream()
+                .map(child -> externalToken(key, child.username(), child.userId(), "CHILD"))
+                .toArray(String[]::new);
+        List<String> usernames = new ArrayList<>();
+        parents.forEach(parent -> usernames.add(parent.username()));
+        children.forEach(child -> usernames.add(child.username()));
+
+        Duration timeout = Duration.ofSeconds(30);
+        Map<String, Integer> mix = settings.mix();
+        List<Operation> operations = new ArrayList<>();
+
+        operations.add(new Operation("login", mix.getOrDefault("login", 0), random -> HttpRequest
+                .newBuilder(base.resolve("/api/v1/auth/login"))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"usernameOrEmail\":\""
+                        + usernames.get(random.nextInt(usernames.size()))
+                        + "\",\"password\":\"" + DatasetGenerator.PASSWORD + "\"}"))
+                .build()));
+
+        operations.add(new Operation("roles", mix.getOrDefault("roles", 0), random -> HttpRequest
+                .newBuilder(base.resolve("/api/v1/roles"))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + childTokens[random.nextInt(childTokens.length)])
+                .build()));
+
+        operations.add(new Operation("overview", mix.getOrDefault("overview", 0), random -> {
+            int index = random.nextInt(parents.size());
+            return HttpRequest.newBuilder(base.resolve("/api/v1/parent/" + parents.get(index).parentId() + "/overview"))
+                    .timeout(timeout)
+                    .header("Authorization", "Bearer " + parentTokens[index])
+                    .build();
+        }));
+
+        operations.add(new Operation("history", mix.getOrDefault("history", 0), random -> {
+            int index = random.nextInt(children.size());
+            return HttpRequest.newBuilder(base.resolve("/api/v1/enrollments/" + enrollment(children.get(index), random)
+                            + "/progress-history"))
+                    .timeout(timeout)
+                    .header("Authorization", "Bearer " + childTokens[index])
+                    .build();
+        }));
+
+        operations.add(new Operation("increment", mix.getOrDefault("increment", 0), random -> {
+            int index = random.nextInt(children.size());
+            return HttpRequest.newBuilder(base.resolve("/api/v1/enrollments/" + enrollment(children.get(index), random)
+                            + "/progress/increment"))
+                    .timeout(timeout)
+                    .header("Authorization", "Bearer " + childTokens[index])
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"delta\":" + (1 + random.nextInt(5)) + "}"))
+                    .build();
+        }));
+
+        for (String name : mix.keySet()) {
+            if (operations.stream().noneMatch(operation -> operation.name().equals(name))) {
+                throw new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + name);
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * A token in the external identity provider's format: numeric user id and a roles claim
+     */
+    private static String externalToken(SecretKey key, String username, long userId, String role) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject(username)
+                .claim("userId", userId)
+                .claim("roles", List.of(role))
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + TimeUnit.HOURS.toMillis(4)))
+                .signWith(key)
+                .compact();
+    }
+
+    private static long enrollment(ChildTarget child, Random random) {
+        return child.enrollmentIds()[random.nextInt(child.enrollmentIds().length)];
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void log(String message) {
+        System.out.println("[loadtest] " + message);
+    }
+}
@@ -0,0 +1,92 @@
+package com.lms.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties (set by the {@code loadtest} Maven profile).
+ *
+ * @param rate           mean arrival rate in requests per second, across all endpoints
+ * @param warmUp         traffic sent before measurement starts
+ * @param duration       measured traffic
+ * @param scale          dataset scale factor; 1 is 10,000 families (see {@link DatasetGenerator})
+ * @param seed           random seed for the dataset and the arrival sequence
+ * @param maxInFlight    requests allowed in flight; arrivals beyond it are counted as dropped
+ * @param mix            relative weight per endpoint
+ * @param jdbcUrl        database to use instead of the embedded one, empty for embedded
+ * @param jdbcUsername   user for {@link #jdbcUrl}
+ * @param jdbcPassword   password for {@link #jdbcUrl}
+ * @param jwtSecret      secret the application signs and verifies tokens with
+ * @param appJar         the application jar under test
+ * @param appJvmArgs     JVM options for the application
+ * @param outputDirectory where the application log and the report are written
+ * @param compareWith    earlier report to compare with, or null
+ */
+record LoadTestSettings(double rate,
+                        Duration warmUp,
+                        Duration duration,
+                        int scale,
+                        long seed,
+                        int maxInFlight,
+                        Map<String, Integer> mix,
+                        String jdbcUrl,
+                        String jdbcUsername,
+                        String jdbcPassword,
+                        String jwtSecret,
+                        Path appJar,
+                        List<String> appJvmArgs,
+                        Path outputDirectory,
+                        Path compareWith) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Double.parseDouble(property("rate", "50")),
+                Duration.ofSeconds(Long.parseLong(property("warm-up-seconds", "20"))),
+                Duration.ofSeconds(Long.parseLong(property("duration-seconds", "60"))),
+                Integer.parseInt(property("scale", "1")),
+                Long.parseLong(property("seed", "42")),
+                Integer.parseInt(property("max-in-flight", "500")),
+                parseMix(property("mix", "login=2,roles=20,overview=30,history=20,increment=28")),
+                property("jdbc-url", ""),
+                property("jdbc-username", "postgres"),
+                property("jdbc-password", "postgres"),
+                property("jwt-secret", "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970"),
+                Path.of(required("app-jar")),
+                Arrays.stream(property("app-jvm-args", "").trim().split("\\s+")).filter(arg -> !arg.isEmpty()).toList(),
+                Path.of(property("output-directory", "target/loadtest")),
+                property("compare", "").isBlank() ? null : Path.of(property("compare", "")));
+    }
+
+    boolean embeddedDatabase() {
+        return jdbcUrl.isBlank();
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries are name=weight, got: " + entry);
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty("loadtest." + name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("loadtest." + name + " is required");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,129 @@
+package com.lms.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Open-model load generator: requests arrive as a Poisson process at a fixed mean rate, whatever the server's
+ * response times, the way independent users do. Each arrival runs on its own virtual thread.
+ * <p>
+ * Arrival times, endpoint choice and request parameters all come from one seeded {@link Random} on the
+ * scheduling thread, so a given seed replays the same request sequence.
+ */
+final class OpenModelLoadGenerator {
+
+    /**
+     * An endpoint in the traffic mix.
+     *
+     * @param name    report label
+     * @param weight  relative share of arrivals
+     * @param request builds the next request; called on the scheduling thread only
+     */
+    record Operation(String name, int weight, Function<Random, HttpRequest> request) {
+    }
+
+    private final HttpClient client;
+    private final List<Operation> operations;
+    private final int totalWeight;
+    private final double rate;
+    private final int maxInFlight;
+    private final Random random;
+
+    OpenModelLoadGenerator(HttpClient client, List<Operation> operations, double rate, int maxInFlight, long seed) {
+        this.client = client;
+        this.operations = operations.stream().filter(operation -> operation.weight() > 0).toList();
+        this.totalWeight = this.operations.stream().mapToInt(Operation::weight).sum();
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+        this.random = new Random(seed);
+        if (totalWeight == 0 || rate <= 0) {
+            throw new IllegalArgumentException("The traffic mix needs a positive rate and at least one weighted endpoint");
+        }
+    }
+
+    /**
+     * Send traffic for {@code warmUp} unrecorded, then for {@code duration} recorded, and wait for in-flight requests
+     *
+     * @return stats per endpoint, in mix order
+     */
+    Map<String, EndpointStats> run(Duration warmUp, Duration duration) {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        operations.forEach(operation -> stats.put(operation.name(), new EndpointStats(operation.name())));
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double meanGapNanos = 1_000_000_000.0 / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmUp.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long next = start;
+            while (next < end) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = pick();
+                HttpRequest request = operation.request().apply(random);
+                EndpointStats endpoint = next >= measureFrom ? stats.get(operation.name()) : null;
+                long scheduled = next;
+
+                if (!inFlight.tryAcquire()) {
+                    if (endpoint != null) {
+                        endpoint.drop();
+                    }
+                } else {
+                    executor.execute(() -> {
+                        try {
+                            send(request, endpoint, scheduled);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+
+                next += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            }
+        }
+        return stats;
+    }
+
+    private void send(HttpRequest request, EndpointStats endpoint, long scheduled) {
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            status = EndpointStats.TRANSPORT_ERROR;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (endpoint != null) {
+            endpoint.record(status, System.nanoTime() - scheduled);
+        }
+    }
+
+    private Operation pick() {
+        int ticket = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+}
@@ -0,0 +1,34 @@
+package com.lms.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that publishes an invalidation for every inserted, updated or removed entity
+ * it is attached to. Register it with {@code @EntityListeners} on entities that other nodes cache.
+ * <p>
+ * Bulk JPQL updates and deletes do not go through entity callbacks; code running those against
+ * a cached entity has to call {@link CacheInvalidationPublisher} itself.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationEntityListener {
+
+    // Resolved lazily: this listener is created while the EntityManagerFactory is being built
+    private final ObjectProvider<CacheInvalidationPublisher> publisher;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Object id = entityManagerFactory.getObject().getPersistenceUnitUtil().getIdentifier(entity);
+        publisher.getObject().publishAfterCommit(Hibernate.getClass(entity).getName(), id);
+    }
+}
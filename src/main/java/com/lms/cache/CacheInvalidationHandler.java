@@ -0,0 +1,22 @@
+package com.lms.cache;
+
+/**
+ * Receives invalidations published by other nodes.
+ * Every bean implementing this interface is called for each message, so any local cache
+ * holding entity data can register itself. Handlers ignore names they do not know.
+ */
+public interface CacheInvalidationHandler {
+
+    /**
+     * Evict one entity from the local cache
+     *
+     * @param entityName the fully qualified entity class name, or a name a handler publishes for itself
+     * @param id the entity identifier as sent on the wire
+     */
+    void evict(String entityName, String id);
+
+    /**
+     * Evict everything, used when messages may have been missed
+     */
+    void evictAll();
+}
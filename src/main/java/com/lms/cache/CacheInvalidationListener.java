@@ -0,0 +1,189 @@
+package com.lms.cache;
+
+import com.lms.config.CacheInvalidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Listens for cache invalidations from other nodes and hands them to every {@link CacheInvalidationHandler}.
+ * <p>
+ * {@code LISTEN} is bound to a database session, so the listener keeps its own connection outside the
+ * pool on a dedicated thread. Whenever it (re)connects it flushes all local caches, since anything
+ * published while it was disconnected is gone. It also flushes when the sequence numbers of a node skip,
+ * which means that node dropped or failed to send a message.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationProperties properties;
+    private final List<CacheInvalidationHandler> handlers;
+    private final Map<String, Long> lastSequenceByNode = new ConcurrentHashMap<>();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder fullFlushes = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile Thread thread;
+
+    public CacheInvalidationListener(DataSourceProperties dataSourceProperties,
+                                     CacheInvalidationProperties properties,
+                                     List<CacheInvalidationHandler> handlers) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.handlers = handlers;
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listenLoop, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Cache invalidation listener started on channel {} as node {}",
+                properties.getChannel(), properties.getNodeId());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    public long getFullFlushCount() {
+        return fullFlushes.sum();
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + quoteIdentifier(properties.getChannel()));
+                }
+                connected = true;
+                lastSequenceByNode.clear();
+                // Listening before flushing: nothing published from here on can be missed
+                flushAll("listener connected");
+                receive(connection);
+            } catch (SQLException ex) {
+                if (running) {
+                    log.warn("Cache invalidation listener lost its connection: {}", ex.getMessage());
+                }
+            } finally {
+                connected = false;
+            }
+            sleep(properties.getReconnectDelay().toMillis());
+        }
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int pollTimeout = (int) properties.getPollTimeout().toMillis();
+        long validationIntervalNanos = properties.getValidationInterval().toNanos();
+        long lastValidated = System.nanoTime();
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollTimeout);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    handle(notification.getParameter());
+                }
+            }
+            // getNotifications does not notice a silently dropped connection on its own
+            if (System.nanoTime() - lastValidated > validationIntervalNanos) {
+                if (!connection.isValid(5)) {
+                    throw new SQLException("Listening connection is no longer valid");
+                }
+                lastValidated = System.nanoTime();
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        CacheInvalidationMessage message;
+        try {
+            message = CacheInvalidationMessage.parse(payload);
+        } catch (IllegalArgumentException ex) {
+            log.warn(ex.getMessage());
+            return;
+        }
+        if (properties.getNodeId().equals(message.getNodeId())) {
+            return;
+        }
+        received.increment();
+
+        Long previous = lastSequenceByNode.put(message.getNodeId(), message.getSequence());
+        if (previous != null && message.getSequence() != previous + 1) {
+            flushAll("missed messages from node " + message.getNodeId());
+            return;
+        }
+
+        for (CacheInvalidationHandler handler : handlers) {
+            try {
+                handler.evict(message.getEntityName(), message.getId());
+            } catch (RuntimeException ex) {
+                log.warn("Cache invalidation handler {} failed for {}:{}", handler.getClass().getSimpleName(),
+                        message.getEntityName(), message.getId(), ex);
+            }
+        }
+    }
+
+    private void flushAll(String reason) {
+        log.info("Flushing local caches: {}", reason);
+        fullFlushes.increment();
+        for (CacheInvalidationHandler handler : handlers) {
+            try {
+                handler.evictAll();
+            } catch (RuntimeException ex) {
+                log.warn("Cache invalidation handler {} failed to flush", handler.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static String quoteIdentifier(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
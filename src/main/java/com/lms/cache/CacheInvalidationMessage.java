@@ -0,0 +1,41 @@
+package com.lms.cache;
+
+import lombok.Value;
+import lombok.With;
+
+/**
+ * One invalidation message, sent as the NOTIFY payload {@code nodeId:sequence:entityName:id}.
+ * The sequence number increases by one per message of a node, so receivers can detect lost messages.
+ */
+@Value
+public class CacheInvalidationMessage {
+
+    String nodeId;
+    @With
+    long sequence;
+    String entityName;
+    String id;
+
+    public String toPayload() {
+        return nodeId + ":" + sequence + ":" + entityName + ":" + id;
+    }
+
+    /**
+     * Parse a NOTIFY payload
+     *
+     * @param payload the payload
+     * @return the message
+     * @throws IllegalArgumentException if the payload is malformed
+     */
+    public static CacheInvalidationMessage parse(String payload) {
+        String[] parts = payload != null ? payload.split(":", 4) : new String[0];
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed cache invalidation payload: " + payload);
+        }
+        try {
+            return new CacheInvalidationMessage(parts[0], Long.parseLong(parts[1]), parts[2], parts[3]);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Malformed cache invalidation payload: " + payload, ex);
+        }
+    }
+}
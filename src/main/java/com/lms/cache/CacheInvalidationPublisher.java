@@ -0,0 +1,146 @@
+package com.lms.cache;
+
+import com.lms.config.CacheInvalidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes cache invalidations to other nodes with PostgreSQL {@code NOTIFY}.
+ * <p>
+ * Changes are collected per transaction and only sent once it has committed, so other nodes never
+ * evict for a change that was rolled back. Sending happens on a single background thread: the
+ * committing thread still holds its own connection, and asking the pool for a second one there could
+ * starve it under load. Every message takes the next sequence number when it is queued, so a message
+ * that is dropped or fails to send shows up as a gap on the receiving side.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationPublisher implements AutoCloseable {
+
+    private final DataSource dataSource;
+    private final CacheInvalidationProperties properties;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Object pendingKey = new Object();
+    private final ThreadPoolExecutor sender;
+
+    public CacheInvalidationPublisher(DataSource dataSource, CacheInvalidationProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.sender = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getPublishQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-invalidation-publisher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Publish an invalidation once the current transaction commits.
+     * Outside a transaction the message is sent right away.
+     *
+     * @param entityName the fully qualified entity class name, or a name a handler publishes for itself
+     * @param id the entity identifier
+     */
+    public void publishAfterCommit(String entityName, Object id) {
+        if (!properties.isEnabled() || id == null) {
+            return;
+        }
+        // The sequence number is assigned when the message is queued for sending
+        CacheInvalidationMessage message =
+                new CacheInvalidationMessage(properties.getNodeId(), 0, entityName, id.toString());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(message));
+            return;
+        }
+
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(pendingKey);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(pendingKey, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.messages.add(message);
+    }
+
+    public String getNodeId() {
+        return properties.getNodeId();
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() {
+        sender.shutdown();
+    }
+
+    // Numbering and queueing under one lock keep the queue in sequence order: two commits racing here could
+    // otherwise queue N+1 ahead of N, which every receiver takes for a gap and answers by evicting everything
+    private synchronized void send(List<CacheInvalidationMessage> messages) {
+        List<String> payloads = new ArrayList<>(messages.size());
+        for (CacheInvalidationMessage message : messages) {
+            payloads.add(message.withSequence(sequence.incrementAndGet()).toPayload());
+        }
+        try {
+            sender.execute(() -> notify(payloads));
+        } catch (RejectedExecutionException ex) {
+            failed.add(payloads.size());
+            log.warn("Cache invalidation queue full, dropped {} message(s)", payloads.size());
+        }
+    }
+
+    private void notify(List<String> payloads) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : payloads) {
+                statement.setString(1, properties.getChannel());
+                statement.setString(2, payload);
+                statement.execute();
+            }
+            published.add(payloads.size());
+        } catch (SQLException ex) {
+            failed.add(payloads.size());
+            log.warn("Failed to publish {} cache invalidation(s): {}", payloads.size(), ex.getMessage());
+        }
+    }
+
+    private class PendingInvalidations implements TransactionSynchronization {
+
+        private final Set<CacheInvalidationMessage> messages = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            send(new ArrayList<>(messages));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.lms.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Archival configuration.
+ * Enables scheduling for the archival job; the job itself checks {@code lms.archival.enabled}.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ArchivalProperties.class)
+public class ArchivalConfig {
+}
@@ -0,0 +1,55 @@
+package com.lms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for moving soft-deleted rows into the archive tables.
+ * Bound from the {@code lms.archival.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "lms.archival")
+public class ArchivalProperties {
+
+    /**
+     * Whether the scheduled archival job runs.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cron expression for the scheduled run.
+     */
+    private String cron = "0 30 3 * * *";
+
+    /**
+     * How long a row stays soft-deleted in its live table before it is archived.
+     */
+    private Duration retention = Duration.ofDays(90);
+
+    /**
+     * Rows moved per transaction. Small batches keep row locks short.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Pause between batches, so the job never saturates the primary.
+     */
+    private Duration pauseBetweenBatches = Duration.ofMillis(200);
+
+    /**
+     * Lock wait limit per batch. A batch that cannot get its locks in time is abandoned until the next run.
+     */
+    private Duration lockTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Upper bound on batches per table and run.
+     */
+    private int maxBatchesPerRun = 200;
+
+    /**
+     * Number of future monthly archive partitions to keep created.
+     */
+    private int partitionsAhead = 2;
+}
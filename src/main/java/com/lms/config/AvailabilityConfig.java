@@ -0,0 +1,12 @@
+package com.lms.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Username/email availability filter configuration.
+ */
+@Configuration
+@EnableConfigurationProperties(AvailabilityProperties.class)
+public class AvailabilityConfig {
+}
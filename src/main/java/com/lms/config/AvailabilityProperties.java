@@ -0,0 +1,35 @@
+package com.lms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the username/email availability filter.
+ * Bound from the {@code lms.availability.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "lms.availability")
+public class AvailabilityProperties {
+
+    /**
+     * Whether availability checks consult the in-memory Bloom filter before the database.
+     * When disabled every check is an indexed query.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Users the filter is sized for. A build sizes for at least twice the rows found, and the filter is
+     * rebuilt once inserts push it past its size.
+     */
+    private long expectedUsers = 1_000_000;
+
+    /**
+     * Target share of checks for free names that still fall through to the database.
+     */
+    private double falsePositiveProbability = 0.01;
+
+    /**
+     * Rows fetched per round trip while streaming the users table.
+     */
+    private int fetchSize = 10_000;
+}
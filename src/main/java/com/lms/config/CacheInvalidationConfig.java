@@ -0,0 +1,14 @@
+package com.lms.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache invalidation bus configuration.
+ * The publisher and listener live in {@code com.lms.cache}; when
+ * {@code lms.cache.invalidation.enabled=false} they stay idle and each node only relies on cache TTLs.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
+public class CacheInvalidationConfig {
+}
@@ -0,0 +1,52 @@
+package com.lms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Configuration for the cluster-wide cache invalidation bus.
+ * Bound from the {@code lms.cache.invalidation.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "lms.cache.invalidation")
+public class CacheInvalidationProperties {
+
+    /**
+     * Whether committed changes are published to, and received from, other nodes.
+     */
+    private boolean enabled = true;
+
+    /**
+     * PostgreSQL NOTIFY channel shared by all nodes.
+     */
+    private String channel = "lms_cache_invalidation";
+
+    /**
+     * Identifies this node in published messages. Defaults to a random id per start.
+     */
+    private String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * Delay before reopening the listening connection after it failed.
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+
+    /**
+     * How long the listener waits for notifications before checking its connection again.
+     */
+    private Duration pollTimeout = Duration.ofMillis(500);
+
+    /**
+     * Interval between validity checks of the listening connection.
+     */
+    private Duration validationInterval = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of messages waiting to be published. Messages beyond it are dropped,
+     * which other nodes detect as a sequence gap and answer with a full flush.
+     */
+    private int publishQueueCapacity = 10_000;
+}
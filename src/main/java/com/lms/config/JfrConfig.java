@@ -0,0 +1,53 @@
+package com.lms.config;
+
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JFR configuration: optionally starts a recording with the LMS events layered over a JDK configuration.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+public class JfrConfig {
+
+    @Bean(destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "lms.jfr", name = "enabled", havingValue = "true")
+    public Recording lmsRecording(JfrProperties properties, ResourceLoader resourceLoader)
+            throws IOException, ParseException {
+
+        Map<String, String> settings = new HashMap<>(jdk.jfr.Configuration.getConfiguration(properties.getBaseSettings()).getSettings());
+        try (Reader reader = new InputStreamReader(
+                resourceLoader.getResource(properties.getSettings()).getInputStream(), StandardCharsets.UTF_8)) {
+            settings.putAll(jdk.jfr.Configuration.create(reader).getSettings());
+        }
+
+        Recording recording = new Recording(settings);
+        recording.setName("lms");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        if (properties.getDestination() != null) {
+            recording.setDestination(Path.of(properties.getDestination()));
+        }
+        recording.start();
+
+        log.info("Started JFR recording 'lms' with {} + {}, keeping {}",
+                properties.getBaseSettings(), properties.getSettings(), properties.getMaxAge());
+        return recording;
+    }
+}
@@ -0,0 +1,48 @@
+package com.lms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the application-started JFR recording.
+ * Bound from the {@code lms.jfr.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "lms.jfr")
+public class JfrProperties {
+
+    /**
+     * Whether the application starts a continuous recording with the LMS events on startup.
+     * Leave off when the JVM is started with {@code -XX:StartFlightRecording}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDK configuration the LMS settings are layered over: {@code default} (about 1% overhead) or {@code profile}.
+     */
+    private String baseSettings = "default";
+
+    /**
+     * Settings file enabling the LMS events.
+     */
+    private String settings = "classpath:jfr/lms.jfc";
+
+    /**
+     * How long recorded data is kept in the disk repository.
+     */
+    private Duration maxAge = Duration.ofHours(6);
+
+    /**
+     * Upper bound on the disk repository size.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(250);
+
+    /**
+     * File the recording is written to when the application stops. Unset to keep data only until
+     * it is dumped with {@code jcmd <pid> JFR.dump name=lms}.
+     */
+    private String destination;
+}
@@ -7,12 +7,18 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 /**
  * OpenAPI/Swagger configuration.
  * Configures API documentation and JWT security scheme.
+ * Outside the {@code dev} profile springdoc's beans are created on the first documentation request
+ * rather than during startup.
  */
 @Configuration
 public class OpenApiConfig {
@@ -49,5 +55,32 @@ public class OpenApiConfig {
                                         .bearerFormat("JWT")
                                         .description("JWT authentication token. Include 'Bearer ' prefix.")));
     }
-}
 
+    /**
+     * Mark springdoc's bean definitions lazy outside the dev profile.
+     *
+     * @return bean factory post-processor applied before any singleton is created
+     */
+    @Bean
+    @Profile("!dev")
+    public static BeanFactoryPostProcessor lazySpringdocInitializer() {
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (isSpringdocBean(beanFactory, definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isSpringdocBean(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String className = definition.getBeanClassName();
+        // @Bean methods carry no class name; they belong to whichever configuration class declares them
+        if (className == null && definition.getFactoryBeanName() != null
+                && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+            className = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+        }
+        return className != null && className.startsWith("org.springdoc.");
+    }
+}
@@ -0,0 +1,13 @@
+package com.lms.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enrollment progress history configuration.
+ * Scheduling is enabled by {@link ArchivalConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(ProgressHistoryProperties.class)
+public class ProgressHistoryConfig {
+}
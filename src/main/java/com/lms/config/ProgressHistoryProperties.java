@@ -0,0 +1,51 @@
+package com.lms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the enrollment progress history.
+ * Bound from the {@code lms.progress-history.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "lms.progress-history")
+public class ProgressHistoryProperties {
+
+    /**
+     * Whether progress changes are recorded.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval between batch writes of buffered changes. Must be given in ISO-8601 form (PT1S), since
+     * {@code @Scheduled} parses it directly.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Maximum rows per batch insert.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Maximum changes waiting to be written. Changes beyond it are dropped and counted.
+     */
+    private int bufferCapacity = 100_000;
+
+    /**
+     * Monthly partitions older than this many months are dropped.
+     */
+    private int retentionMonths = 24;
+
+    /**
+     * Number of future monthly partitions to keep created.
+     */
+    private int partitionsAhead = 2;
+
+    /**
+     * Cron expression for partition creation and retention.
+     */
+    private String maintenanceCron = "0 0 2 * * *";
+}
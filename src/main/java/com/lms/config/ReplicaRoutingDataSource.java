@@ -0,0 +1,236 @@
+package com.lms.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource that sends read-only transactions to read replicas and everything else to the primary.
+ * <p>
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the
+ * physical connection is only requested once the transaction's read-only flag is known.
+ * After a principal's read-write transaction commits, that principal's reads stay on the primary for
+ * the configured read-your-writes window. Replicas failing the periodic health check, or failing to
+ * hand out a connection, are taken out of rotation; with no healthy replica reads fall back to the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private static final int MAX_TRACKED_WRITERS = 10_000;
+
+    private final DataSource primary;
+    private final Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+    private final List<String> replicaNames;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final Map<String, LongAdder> checkouts = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Object writeTrackingKey = new Object();
+    private final long readYourWritesWindowNanos;
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSourceRoutingProperties properties) {
+        this.primary = primary;
+        this.readYourWritesWindowNanos = properties.getReadYourWritesWindow().toNanos();
+
+        checkouts.put(PRIMARY, new LongAdder());
+        int index = 0;
+        for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+            String name = replica.getName() != null ? replica.getName() : "replica-" + index;
+            replicas.put(name, createPool(name, replica));
+            checkouts.put(name, new LongAdder());
+            healthyReplicas.add(name);
+            index++;
+        }
+        this.replicaNames = List.copyOf(replicas.keySet());
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHealthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+
+        log.info("Read replica routing enabled with replicas {}", replicaNames);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String target = determineTarget();
+        if (!PRIMARY.equals(target)) {
+            try {
+                Connection connection = replicas.get(target).getConnection();
+                checkouts.get(target).increment();
+                return connection;
+            } catch (SQLException ex) {
+                log.warn("Replica {} unavailable, falling back to primary: {}", target, ex.getMessage());
+                markUnhealthy(target);
+            }
+        }
+        checkouts.get(PRIMARY).increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        checkouts.get(PRIMARY).increment();
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Number of connections handed out per target since startup.
+     */
+    public Map<String, Long> getCheckoutCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put(PRIMARY, checkouts.get(PRIMARY).sum());
+        for (String name : replicaNames) {
+            counts.put(name, checkouts.get(name).sum());
+        }
+        return counts;
+    }
+
+    /**
+     * Replicas currently in rotation.
+     */
+    public List<String> getHealthyReplicas() {
+        List<String> healthy = new ArrayList<>(replicaNames);
+        healthy.retainAll(healthyReplicas);
+        return Collections.unmodifiableList(healthy);
+    }
+
+    public List<String> getReplicaNames() {
+        return replicaNames;
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.values().forEach(HikariDataSource::close);
+    }
+
+    private String determineTarget() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return PRIMARY;
+        }
+        if (isWithinReadYourWritesWindow(currentPrincipal())) {
+            return PRIMARY;
+        }
+        String replica = nextHealthyReplica();
+        return replica != null ? replica : PRIMARY;
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaNames.size();
+        for (int i = 0; i < size; i++) {
+            String candidate = replicaNames.get(Math.floorMod(nextReplica.getAndIncrement(), size));
+            if (healthyReplicas.contains(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void trackWrite() {
+        String principal = currentPrincipal();
+        if (principal == null || TransactionSynchronizationManager.hasResource(writeTrackingKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(writeTrackingKey, principal);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(principal);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeTrackingKey);
+            }
+        });
+    }
+
+    private void recordWrite(String principal) {
+        long now = System.nanoTime();
+        if (lastWriteNanos.size() >= MAX_TRACKED_WRITERS) {
+            lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt > readYourWritesWindowNanos);
+        }
+        lastWriteNanos.put(principal, now);
+    }
+
+    private boolean isWithinReadYourWritesWindow(String principal) {
+        if (principal == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteNanos.get(principal);
+        return writtenAt != null && System.nanoTime() - writtenAt <= readYourWritesWindowNanos;
+    }
+
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    private void checkReplicas() {
+        replicas.forEach((name, pool) -> {
+            boolean valid;
+            try (Connection connection = pool.getConnection()) {
+                valid = connection.isValid(2);
+            } catch (SQLException ex) {
+                valid = false;
+            }
+            if (valid && healthyReplicas.add(name)) {
+                log.info("Replica {} is healthy again, returning it to rotation", name);
+            } else if (!valid) {
+                markUnhealthy(name);
+            }
+        });
+    }
+
+    private void markUnhealthy(String name) {
+        if (healthyReplicas.remove(name)) {
+            log.warn("Replica {} failed its health check, removing it from rotation", name);
+        }
+    }
+
+    private HikariDataSource createPool(String name, DataSourceRoutingProperties.Replica replica) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername());
+        config.setPassword(replica.getPassword());
+        config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        config.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        config.setReadOnly(true);
+        // Do not fail startup when a replica is down; the health check brings it back later.
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,45 @@
+package com.lms.config;
+
+import com.lms.metrics.JdbcTimingSessionEventListener;
+import com.lms.metrics.RequestStatisticsFilter;
+import com.lms.metrics.StatementCountingInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-request SQL statistics.
+ * Hibernate reports every prepared statement and JDBC execution to the request's scope; the filter
+ * publishes the totals as histograms and, outside the {@code prod} profile, as a Server-Timing header.
+ */
+@Configuration
+public class RequestStatisticsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, StatementCountingInspector.class.getName());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionEventListener.class.getName());
+        };
+    }
+
+    /**
+     * Registered ahead of the security filter chain so authentication falls inside the measured request.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(MeterRegistry meterRegistry,
+                                                                                   Environment environment) {
+        boolean serverTiming = !environment.matchesProfiles("prod");
+        FilterRegistrationBean<RequestStatisticsFilter> registration =
+                new FilterRegistrationBean<>(new RequestStatisticsFilter(meterRegistry, serverTiming));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        return registration;
+    }
+}
@@ -0,0 +1,31 @@
+package com.lms.config;
+
+import com.lms.entity.BaseEntity;
+import org.hibernate.Session;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+/**
+ * Soft delete configuration.
+ * Enables the {@link BaseEntity#NOT_DELETED_FILTER} filter on every EntityManager the factory creates,
+ * so queries only see live rows unless a caller disables the filter for its own transaction.
+ */
+@Configuration
+public class SoftDeleteConfig {
+
+    @Bean
+    public static BeanPostProcessor notDeletedFilterInitializer() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setEntityManagerInitializer(entityManager ->
+                            entityManager.unwrap(Session.class).enableFilter(BaseEntity.NOT_DELETED_FILTER));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.lms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the admin bulk user import.
+ * Bound from the {@code lms.user-import.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "lms.user-import")
+public class UserImportProperties {
+
+    /**
+     * Threads hashing passwords, shared by all running imports. 0 uses one per available processor.
+     */
+    private int parallelism = 0;
+
+    /**
+     * Rows hashed together and written in one transaction. A batch the database rejects as a whole is
+     * reported as failed row by row, and the import continues with the next batch.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Failed rows listed in the response; further failures are only counted.
+     */
+    private int maxReportedFailures = 1000;
+}
@@ -0,0 +1,43 @@
+package com.lms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for the startup warm-up.
+ * Bound from the {@code lms.warm-up.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "lms.warm-up")
+public class WarmUpProperties {
+
+    /**
+     * Whether hot paths are exercised before the application reports ready.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of warm-up iterations. Warm-up stops at this count or at {@link #duration}, whichever comes first.
+     */
+    private int iterations = 2000;
+
+    /**
+     * Upper bound on the time spent warming up, and so on the delay added to readiness.
+     */
+    private Duration duration = Duration.ofSeconds(20);
+
+    /**
+     * Existing user the synthetic tokens are minted for and the repository queries look up.
+     */
+    private String username = "superadmin";
+
+    /**
+     * GET endpoints called through the local server with a token for {@link #username}, exercising the
+     * security filter chain, controllers and message converters. Empty to skip the HTTP leg.
+     */
+    private List<String> httpPaths = new ArrayList<>(List.of("/api/v1/admin/cache/stats"));
+}
@@ -0,0 +1,98 @@
+package com.lms.controller;
+
+import com.lms.dto.response.ApiResponse;
+import com.lms.dto.response.ArchivalStatusResponse;
+import com.lms.service.ArchivalService;
+import com.lms.service.SoftDeleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * REST controller for the archival of soft-deleted rows (Admin only).
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/archival")
+@RequiredArgsConstructor
+@Tag(name = "Archival", description = "Archival job and archive restore APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class ArchivalController {
+
+    private final ArchivalService archivalService;
+
+    /**
+     * Get archival progress
+     *
+     * @return ResponseEntity with last run, totals and rows due for archival
+     */
+    @Operation(
+            summary = "Get archival status",
+            description = "Retrieve the last run, rows archived per table and rows currently due for archival (Admin only)"
+    )
+    @GetMapping("/status")
+    public ResponseEntity<ApiResponse<ArchivalStatusResponse>> getStatus() {
+        return ResponseEntity.ok(ApiResponse.success("Archival status retrieved successfully",
+                archivalService.getStatus()));
+    }
+
+    /**
+     * Run the archival job now
+     *
+     * @return ResponseEntity with rows archived per table
+     */
+    @Operation(
+            summary = "Run archival",
+            description = "Archive rows soft-deleted longer than the retention period without waiting for the schedule (Admin only)"
+    )
+    @PostMapping("/run")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> run() {
+        log.info("Manual archival run requested");
+        try {
+            return ResponseEntity.ok(ApiResponse.success("Archival completed", archivalService.runArchival()));
+        } catch (IllegalStateException ex) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(ex.getMessage()));
+        }
+    }
+
+    /**
+     * Restore an archived row
+     *
+     * @param target the kind of row
+     * @param id the row ID
+     * @return ResponseEntity with the number of rows restored
+     */
+    @Operation(
+            summary = "Restore an archived row",
+            description = "Move a course, user or enrollment back from the archive and undelete it, together with the enrollments deleted with it (Admin only)"
+    )
+    @PostMapping("/{target}/{id}/restore")
+    public ResponseEntity<ApiResponse<Integer>> restore(
+            @Parameter(description = "Kind of row", example = "COURSES") @PathVariable SoftDeleteService.Target target,
+            @PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("Restored successfully", archivalService.restore(target, id)));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Archive restore failed: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(ex.getMessage()));
+        } catch (IllegalStateException ex) {
+            log.warn("Archive restore failed: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(ex.getMessage()));
+        }
+    }
+}
@@ -4,8 +4,11 @@ import com.lms.dto.request.LoginRequest;
 import com.lms.dto.request.RegisterRequest;
 import com.lms.dto.response.ApiResponse;
 import com.lms.dto.response.AuthResponse;
+import com.lms.dto.response.AvailabilityResponse;
 import com.lms.service.AuthService;
+import com.lms.service.UserAvailabilityService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -20,7 +23,7 @@ import org.springframework.web.bind.annotation.*;
 
 /**
  * REST controller for authentication endpoints.
- * Handles user registration and login operations.
+ * Handles user registration, login and availability checks.
  */
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -30,6 +33,7 @@ public class AuthController {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
     private final AuthService authService;
+    private final UserAvailabilityService userAvailabilityService;
 
     /**
      * Register a new user (token is provided by external IdP).
@@ -58,10 +62,14 @@ public class AuthController {
     public ResponseEntity<ApiResponse<AuthResponse>> register(@Valid @RequestBody RegisterRequest request) {
         logger.info("Received registration request for username: {}", request.getUsername());
         
-        AuthResponse authResponse = authService.register(request);
-        
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success("User registered successfully", authResponse));
+        try {
+            AuthResponse authResponse = authService.register(request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success("User registered successfully", authResponse));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(ex.getMessage()));
+        }
     }
 
     /**
@@ -99,4 +107,50 @@ public class AuthController {
         
         return ResponseEntity.ok(ApiResponse.success("Login successful", authResponse));
     }
+
+    /**
+     * Check whether a username and/or email can still be registered
+     * 
+     * @param username the username to check
+     * @param email the email to check
+     * @return ResponseEntity with AvailabilityResponse
+     */
+    @Operation(
+            summary = "Check username/email availability",
+            description = "Check whether a username and/or email is still free, for sign-up forms checking as the user types. " +
+                    "Values never registered are answered from memory; others are confirmed against the database."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Availability checked",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Neither username nor email given",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<AvailabilityResponse>> checkAvailability(
+            @Parameter(description = "Username to check", example = "john_doe")
+            @RequestParam(required = false) String username,
+            @Parameter(description = "Email to check", example = "john@example.com")
+            @RequestParam(required = false) String email) {
+        boolean hasUsername = username != null && !username.isBlank();
+        boolean hasEmail = email != null && !email.isBlank();
+        if (!hasUsername && !hasEmail) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("username or email is required"));
+        }
+
+        AvailabilityResponse response = AvailabilityResponse.builder()
+                .username(hasUsername ? username : null)
+                .usernameAvailable(hasUsername ? userAvailabilityService.isUsernameAvailable(username) : null)
+                .email(hasEmail ? email : null)
+                .emailAvailable(hasEmail ? userAvailabilityService.isEmailAvailable(email) : null)
+                .build();
+        return ResponseEntity.ok(ApiResponse.success("Availability checked", response));
+    }
 }
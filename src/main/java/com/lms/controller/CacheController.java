@@ -0,0 +1,70 @@
+package com.lms.controller;
+
+import com.lms.cache.CacheInvalidationListener;
+import com.lms.cache.CacheInvalidationPublisher;
+import com.lms.dto.response.ApiResponse;
+import com.lms.service.CacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST controller for second-level cache management (Admin only).
+ */
+@RestController
+@RequestMapping("/api/v1/admin/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Second-level cache APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class CacheController {
+
+    private final CacheService cacheService;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheInvalidationListener invalidationListener;
+
+    /**
+     * Get cache region statistics
+     *
+     * @return ResponseEntity with hit/miss/put counts per region
+     */
+    @Operation(
+            summary = "Get cache statistics",
+            description = "Retrieve hit, miss and put counts for every second-level and query cache region (Admin only)"
+    )
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Long>>>> getRegionStatistics() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Cache statistics retrieved successfully", cacheService.getRegionStatistics())
+        );
+    }
+
+    /**
+     * Get cache invalidation bus statistics
+     *
+     * @return ResponseEntity with this node's id, listener state and message counts
+     */
+    @Operation(
+            summary = "Get cache invalidation statistics",
+            description = "Retrieve the listener state and the number of invalidations published, received and flushed on this node (Admin only)"
+    )
+    @GetMapping("/invalidation")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getInvalidationStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("nodeId", invalidationPublisher.getNodeId());
+        stats.put("listening", invalidationListener.isConnected());
+        stats.put("published", invalidationPublisher.getPublishedCount());
+        stats.put("publishFailures", invalidationPublisher.getFailedCount());
+        stats.put("received", invalidationListener.getReceivedCount());
+        stats.put("fullFlushes", invalidationListener.getFullFlushCount());
+
+        return ResponseEntity.ok(ApiResponse.success("Cache invalidation statistics retrieved successfully", stats));
+    }
+}
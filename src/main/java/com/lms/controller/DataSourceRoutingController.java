@@ -0,0 +1,55 @@
+package com.lms.controller;
+
+import com.lms.config.ReplicaRoutingDataSource;
+import com.lms.dto.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST controller exposing read replica routing statistics (Admin only).
+ */
+@RestController
+@RequestMapping("/api/v1/admin/datasource")
+@RequiredArgsConstructor
+@Tag(name = "Data Source", description = "Read replica routing APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class DataSourceRoutingController {
+
+    private final ObjectProvider<ReplicaRoutingDataSource> routingDataSource;
+
+    /**
+     * Get routing statistics
+     *
+     * @return ResponseEntity with replica health and per-target connection counts
+     */
+    @Operation(
+            summary = "Get routing statistics",
+            description = "Retrieve replica health and the number of connections handed out per target (Admin only)"
+    )
+    @GetMapping("/routing")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRoutingStats() {
+        ReplicaRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("Read replica routing is disabled"));
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("replicas", routing.getReplicaNames());
+        stats.put("healthyReplicas", routing.getHealthyReplicas());
+        stats.put("connectionCheckouts", routing.getCheckoutCounts());
+
+        return ResponseEntity.ok(ApiResponse.success("Routing statistics retrieved successfully", stats));
+    }
+}
@@ -0,0 +1,166 @@
+package com.lms.controller;
+
+import com.lms.dto.request.IncrementProgressRequest;
+import com.lms.dto.request.UpdateProgressRequest;
+import com.lms.dto.response.ApiResponse;
+import com.lms.dto.response.EnrollmentProgressResponse;
+import com.lms.dto.response.ProgressHistoryBucket;
+import com.lms.service.EnrollmentService;
+import com.lms.service.ProgressHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST controller for enrollment endpoints.
+ * Progress updates use optimistic concurrency instead of row locks.
+ * Apart from admins, callers may only use enrollments of their own or of a child in their family.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/enrollments")
+@RequiredArgsConstructor
+@Tag(name = "Enrollments", description = "Enrollment progress APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class EnrollmentController {
+
+    private static final int MAX_BUCKETS = 1000;
+
+    private final EnrollmentService enrollmentService;
+    private final ProgressHistoryService progressHistoryService;
+
+    /**
+     * Set the progress of an enrollment
+     *
+     * @param id the enrollment ID
+     * @param request the new progress and the version the client last read
+     * @return ResponseEntity with the updated progress
+     */
+    @Operation(
+            summary = "Set enrollment progress",
+            description = "Set the progress of an enrollment. Fails with 409 if the enrollment changed since the given version."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Progress updated successfully",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - not the caller's or their family's enrollment",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Enrollment not found",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "Enrollment was modified concurrently",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @PutMapping("/{id}/progress")
+    @PreAuthorize("hasRole('ADMIN') or @enrollmentService.isOwnEnrollment(authentication, #id)")
+    public ResponseEntity<ApiResponse<EnrollmentProgressResponse>> updateProgress(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateProgressRequest request) {
+        log.info("Updating progress of enrollment: {}", id);
+
+        try {
+            EnrollmentProgressResponse progress =
+                    enrollmentService.updateProgress(id, request.getProgressPercentage(), request.getVersion());
+
+            return ResponseEntity.ok(ApiResponse.success("Progress updated successfully", progress));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Progress update failed: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(ex.getMessage()));
+        }
+    }
+
+    /**
+     * Add to the progress of an enrollment
+     *
+     * @param id the enrollment ID
+     * @param request the percentage points to add
+     * @return ResponseEntity with the updated progress
+     */
+    @Operation(
+            summary = "Increment enrollment progress",
+            description = "Add to the progress of an enrollment. Concurrent increments are retried automatically."
+    )
+    @PostMapping("/{id}/progress/increment")
+    @PreAuthorize("hasRole('ADMIN') or @enrollmentService.isOwnEnrollment(authentication, #id)")
+    public ResponseEntity<ApiResponse<EnrollmentProgressResponse>> incrementProgress(
+            @PathVariable Long id,
+            @Valid @RequestBody IncrementProgressRequest request) {
+        log.info("Incrementing progress of enrollment: {}", id);
+
+        try {
+            EnrollmentProgressResponse progress = enrollmentService.incrementProgress(id, request.getDelta());
+
+            return ResponseEntity.ok(ApiResponse.success("Progress updated successfully", progress));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Progress increment failed: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(ex.getMessage()));
+        }
+    }
+
+    /**
+     * Get the progress history of an enrollment
+     *
+     * @param id the enrollment ID
+     * @param from start of the range, defaults to 30 days before {@code to}
+     * @param to end of the range, defaults to now
+     * @param buckets number of time buckets to downsample into
+     * @return ResponseEntity with the non-empty buckets in time order
+     */
+    @Operation(
+            summary = "Get enrollment progress history",
+            description = "Retrieve the progress changes of an enrollment, downsampled into equal time buckets. Empty buckets are omitted."
+    )
+    @GetMapping("/{id}/progress-history")
+    @PreAuthorize("hasRole('ADMIN') or @enrollmentService.isOwnEnrollment(authentication, #id)")
+    public ResponseEntity<ApiResponse<List<ProgressHistoryBucket>>> getProgressHistory(
+            @PathVariable Long id,
+            @Parameter(description = "Start of the range (ISO date-time)", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range (ISO date-time)", example = "2024-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Number of buckets", example = "50")
+            @RequestParam(defaultValue = "50") int buckets) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(30);
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("buckets must be between 1 and " + MAX_BUCKETS));
+        }
+
+        try {
+            return ResponseEntity.ok(ApiResponse.success("Progress history retrieved successfully",
+                    progressHistoryService.getHistory(id, start, end, buckets)));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(ex.getMessage()));
+        }
+    }
+}
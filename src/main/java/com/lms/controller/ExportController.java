@@ -0,0 +1,84 @@
+package com.lms.controller;
+
+import com.lms.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for reporting exports (Admin only).
+ * Responses are streamed row by row instead of being buffered in memory.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/exports")
+@RequiredArgsConstructor
+@Tag(name = "Exports", description = "Bulk data export APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Export all enrollments joined with users and courses
+     *
+     * @param format the output format
+     * @return streamed export body
+     */
+    @Operation(
+            summary = "Export enrollments",
+            description = "Stream every enrollment joined with its user and course as NDJSON or CSV (Admin only)"
+    )
+    @GetMapping("/enrollments")
+    public ResponseEntity<StreamingResponseBody> exportEnrollments(
+            @Parameter(description = "Output format", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") ExportService.Format format) {
+        log.info("Exporting enrollments as {}", format);
+
+        StreamingResponseBody body = out -> exportService.exportEnrollments(format, out);
+        return streamed("enrollments", format, body);
+    }
+
+    /**
+     * Export all users with their roles
+     *
+     * @param format the output format
+     * @return streamed export body
+     */
+    @Operation(
+            summary = "Export users",
+            description = "Stream every user with their role as NDJSON or CSV (Admin only)"
+    )
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @Parameter(description = "Output format", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") ExportService.Format format) {
+        log.info("Exporting users as {}", format);
+
+        StreamingResponseBody body = out -> exportService.exportUsers(format, out);
+        return streamed("users", format, body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamed(String name, ExportService.Format format,
+                                                           StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,81 @@
+package com.lms.controller;
+
+import com.lms.dto.response.ApiResponse;
+import com.lms.dto.response.ParentOverviewResponse;
+import com.lms.service.ParentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for parent endpoints.
+ * Exposes the family overview of a parent and their children.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/parent")
+@RequiredArgsConstructor
+@Tag(name = "Parent", description = "Parent family overview APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class ParentController {
+
+    private final ParentService parentService;
+
+    /**
+     * Get the family overview for a parent
+     *
+     * @param parentId the parent ID
+     * @return ResponseEntity with the overview
+     */
+    @Operation(
+            summary = "Get family overview",
+            description = "Retrieve every linked child of a parent together with their enrollment summaries"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Overview retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Parent not found",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - not the requested parent",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @GetMapping("/{parentId}/overview")
+    @PreAuthorize("hasRole('ADMIN') or @parentService.isOwnFamily(authentication, #parentId)")
+    public ResponseEntity<ApiResponse<ParentOverviewResponse>> getFamilyOverview(@PathVariable Long parentId) {
+        log.info("Fetching family overview for parent: {}", parentId);
+
+        return parentService.getFamilyOverview(parentId)
+                .map(overview -> ResponseEntity.ok(
+                        ApiResponse.success("Family overview retrieved successfully", overview)
+                ))
+                .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Parent not found"))
+                );
+    }
+}
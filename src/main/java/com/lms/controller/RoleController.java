@@ -1,7 +1,7 @@
 package com.lms.controller;
 
 import com.lms.dto.response.ApiResponse;
-import com.lms.entity.Role;
+import com.lms.dto.response.RoleResponse;
 import com.lms.entity.Roles;
 import com.lms.service.RoleService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,10 +54,10 @@ public class RoleController {
             )
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Roles>>> getAllRoles() {
+    public ResponseEntity<ApiResponse<List<RoleResponse>>> getAllRoles() {
         log.info("Fetching all roles");
         
-        List<Roles> roles = roleService.getAllRoles();
+        List<RoleResponse> roles = roleService.getAllRoles();
         
         return ResponseEntity.ok(
                 ApiResponse.success("Roles retrieved successfully", roles)
@@ -92,7 +92,7 @@ public class RoleController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Roles>> getRoleById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<RoleResponse>> getRoleById(@PathVariable Long id) {
         log.info("Fetching role by ID: {}", id);
         
         return roleService.getRoleById(id)
@@ -115,7 +115,7 @@ public class RoleController {
             description = "Retrieve a specific role by its name"
     )
     @GetMapping("/name/{name}")
-    public ResponseEntity<ApiResponse<Roles>> getRoleByName(@PathVariable String name) {
+    public ResponseEntity<ApiResponse<RoleResponse>> getRoleByName(@PathVariable String name) {
         log.info("Fetching role by name: {}", name);
         
         return roleService.getRoleByName(name)
@@ -160,11 +160,11 @@ public class RoleController {
             )
     })
     @PostMapping
-    public ResponseEntity<ApiResponse<Roles>> createRole(@RequestBody Roles role) {
+    public ResponseEntity<ApiResponse<RoleResponse>> createRole(@RequestBody Roles role) {
         log.info("Creating new role: {}", role.getRole().name());
         
         try {
-            Roles createdRole = roleService.createRole(role);
+            RoleResponse createdRole = roleService.createRole(role);
             
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("Role created successfully", createdRole));
@@ -187,13 +187,13 @@ public class RoleController {
             description = "Update an existing role in the system (Admin only)"
     )
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<Roles>> updateRole(
+    public ResponseEntity<ApiResponse<RoleResponse>> updateRole(
             @PathVariable Long id,
             @RequestBody Roles role) {
         log.info("Updating role: {}", id);
         
         try {
-            Roles updatedRole = roleService.updateRole(id, role);
+            RoleResponse updatedRole = roleService.updateRole(id, role);
             
             return ResponseEntity.ok(
                     ApiResponse.success("Role updated successfully", updatedRole)
@@ -0,0 +1,117 @@
+package com.lms.controller;
+
+import com.lms.dto.response.ApiResponse;
+import com.lms.dto.response.DeletedRecordResponse;
+import com.lms.service.SoftDeleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for soft deletes (Admin only).
+ * Deleted rows stay in the database, hidden from every other API, and can be listed and restored here.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/soft-deletes")
+@RequiredArgsConstructor
+@Tag(name = "Soft Deletes", description = "Soft delete, restore and deleted-row APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class SoftDeleteController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final SoftDeleteService softDeleteService;
+
+    /**
+     * Soft delete a row
+     *
+     * @param target the kind of row
+     * @param id the row ID
+     * @param authentication the current authentication
+     * @return ResponseEntity with success message
+     */
+    @Operation(
+            summary = "Soft delete a row",
+            description = "Mark a course, user or enrollment as deleted. Deleting a course or user also deletes its enrollments (Admin only)"
+    )
+    @DeleteMapping("/{target}/{id}")
+    public ResponseEntity<ApiResponse<String>> delete(
+            @Parameter(description = "Kind of row", example = "COURSES") @PathVariable SoftDeleteService.Target target,
+            @PathVariable Long id,
+            Authentication authentication) {
+        try {
+            softDeleteService.delete(target, id, authentication.getName());
+            return ResponseEntity.ok(ApiResponse.success("Deleted successfully", "Deleted"));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Soft delete failed: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(ex.getMessage()));
+        }
+    }
+
+    /**
+     * Restore a soft-deleted row
+     *
+     * @param target the kind of row
+     * @param id the row ID
+     * @return ResponseEntity with success message
+     */
+    @Operation(
+            summary = "Restore a soft-deleted row",
+            description = "Bring back a deleted course, user or enrollment, together with the enrollments deleted with it (Admin only)"
+    )
+    @PostMapping("/{target}/{id}/restore")
+    public ResponseEntity<ApiResponse<String>> restore(
+            @Parameter(description = "Kind of row", example = "COURSES") @PathVariable SoftDeleteService.Target target,
+            @PathVariable Long id) {
+        try {
+            softDeleteService.restore(target, id);
+            return ResponseEntity.ok(ApiResponse.success("Restored successfully", "Restored"));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Restore failed: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(ex.getMessage()));
+        }
+    }
+
+    /**
+     * Get soft-deleted rows
+     *
+     * @param target the kind of row
+     * @param page zero-based page number
+     * @param size page size
+     * @return ResponseEntity with the deleted rows, newest deletion first
+     */
+    @Operation(
+            summary = "Get soft-deleted rows",
+            description = "Retrieve deleted courses, users or enrollments, newest deletion first (Admin only)"
+    )
+    @GetMapping("/{target}")
+    public ResponseEntity<ApiResponse<List<DeletedRecordResponse>>> getDeleted(
+            @Parameter(description = "Kind of row", example = "COURSES") @PathVariable SoftDeleteService.Target target,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE));
+        }
+        return ResponseEntity.ok(ApiResponse.success("Deleted rows retrieved successfully",
+                softDeleteService.getDeleted(target, page, size)));
+    }
+}
@@ -0,0 +1,62 @@
+package com.lms.controller;
+
+import com.lms.dto.response.ApiResponse;
+import com.lms.dto.response.UserImportResponse;
+import com.lms.service.ExportService;
+import com.lms.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.security.Principal;
+
+/**
+ * REST controller for bulk user imports (Admin only).
+ * The request body is read as a stream rather than buffered in memory.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "User Import", description = "Bulk user import APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    /**
+     * Import users from the request body
+     *
+     * @param format the body format
+     * @param request the HTTP request whose body is read
+     * @param principal the importing admin
+     * @return ResponseEntity with the import counts and failed rows
+     */
+    @Operation(
+            summary = "Import users",
+            description = "Create users from an NDJSON or CSV body with username, email, password and role per row " +
+                    "(CSV needs a header row). Rows are validated like registration; invalid or duplicate rows are " +
+                    "reported and skipped without stopping the import (Admin only)"
+    )
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<UserImportResponse>> importUsers(
+            @Parameter(description = "Body format", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") ExportService.Format format,
+            HttpServletRequest request,
+            Principal principal) throws IOException {
+        log.info("Importing users as {}", format);
+
+        UserImportResponse response = userImportService.importUsers(format, request.getInputStream(), principal.getName());
+        return ResponseEntity.ok(ApiResponse.success("User import completed", response));
+    }
+}
@@ -0,0 +1,16 @@
+package com.lms.dto.projection;
+
+/**
+ * Lightweight projection of an enrollment's progress and version.
+ * Used by the conditional-update paths so they avoid loading the full entity graph.
+ */
+public interface EnrollmentProgressRow {
+
+    Long getId();
+
+    int getProgressPercentage();
+
+    Boolean getIsCompleted();
+
+    Long getVersion();
+}
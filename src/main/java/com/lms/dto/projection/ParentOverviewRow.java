@@ -0,0 +1,28 @@
+package com.lms.dto.projection;
+
+/**
+ * Row projection for the parent family overview query.
+ * One row is returned per linked child; child columns are null when the parent has no children.
+ */
+public interface ParentOverviewRow {
+
+    Long getParentId();
+
+    String getParentName();
+
+    String getParentType();
+
+    Long getChildId();
+
+    String getChildName();
+
+    String getChildUserName();
+
+    String getCaseNumber();
+
+    Long getTotalEnrollments();
+
+    Long getCompletedEnrollments();
+
+    Double getAverageProgress();
+}
@@ -0,0 +1,17 @@
+package com.lms.dto.projection;
+
+import com.lms.entity.Role;
+
+/**
+ * Account columns needed to answer a login, read in one statement without loading the user entity.
+ */
+public interface UserAccountRow {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    Role getRole();
+}
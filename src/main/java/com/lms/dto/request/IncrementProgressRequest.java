@@ -0,0 +1,25 @@
+package com.lms.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for incrementing an enrollment's progress.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request object for incrementing enrollment progress")
+public class IncrementProgressRequest {
+
+    @NotNull(message = "Delta is required")
+    @Min(value = 1, message = "Delta must be between 1 and 100")
+    @Max(value = 100, message = "Delta must be between 1 and 100")
+    @Schema(description = "Percentage points to add", example = "10", required = true)
+    private Integer delta;
+}
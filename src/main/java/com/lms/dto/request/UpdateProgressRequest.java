@@ -0,0 +1,29 @@
+package com.lms.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for setting an enrollment's progress.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request object for setting enrollment progress")
+public class UpdateProgressRequest {
+
+    @NotNull(message = "Progress percentage is required")
+    @Min(value = 0, message = "Progress percentage must be between 0 and 100")
+    @Max(value = 100, message = "Progress percentage must be between 0 and 100")
+    @Schema(description = "New progress percentage", example = "75", required = true)
+    private Integer progressPercentage;
+
+    @NotNull(message = "Version is required")
+    @Schema(description = "Version of the enrollment the client last read", example = "3", required = true)
+    private Long version;
+}
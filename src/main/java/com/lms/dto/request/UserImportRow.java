@@ -0,0 +1,31 @@
+package com.lms.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one user in a bulk import file.
+ * Values are validated with the registration rules once the row is read; unknown columns are ignored.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "User row of a bulk import (one NDJSON line or CSV record)")
+public class UserImportRow {
+
+    @Schema(description = "Unique username (alphanumeric, 3 to 50 characters)", example = "student42")
+    private String username;
+
+    @Schema(description = "Unique email address", example = "student42@district.edu")
+    private String email;
+
+    @Schema(description = "Password (min 8 characters, must contain uppercase, lowercase, and digit)", example = "SecurePass123")
+    private String password;
+
+    @Schema(description = "User role, case-insensitive", example = "CHILD")
+    private String role;
+}
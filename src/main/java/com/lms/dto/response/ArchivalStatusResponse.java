@@ -0,0 +1,48 @@
+package com.lms.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the state of the archival job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Archival job progress on this node")
+public class ArchivalStatusResponse {
+
+    @Schema(description = "Whether the scheduled job is enabled", example = "true")
+    private boolean enabled;
+
+    @Schema(description = "Whether a run is in progress on this node", example = "false")
+    private boolean running;
+
+    @Schema(description = "Days a row stays soft-deleted before it is archived", example = "90")
+    private long retentionDays;
+
+    @Schema(description = "Start of the last run")
+    private LocalDateTime lastRunStartedAt;
+
+    @Schema(description = "End of the last run")
+    private LocalDateTime lastRunFinishedAt;
+
+    @Schema(description = "Error that stopped a table in the last run, if any")
+    private String lastError;
+
+    @Schema(description = "Rows archived per table in the last run")
+    private Map<String, Long> lastRunArchived;
+
+    @Schema(description = "Rows archived per table since this node started")
+    private Map<String, Long> totalArchived;
+
+    @Schema(description = "Rows per table that are due for archival now")
+    private Map<String, Long> pending;
+}
@@ -0,0 +1,31 @@
+package com.lms.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a username/email availability check.
+ * Fields for a value that was not asked about are null.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Whether a username and email are free to register")
+public class AvailabilityResponse {
+
+    @Schema(description = "Username checked", example = "john_doe")
+    private String username;
+
+    @Schema(description = "Whether the username is free", example = "true")
+    private Boolean usernameAvailable;
+
+    @Schema(description = "Email checked", example = "john@example.com")
+    private String email;
+
+    @Schema(description = "Whether the email is free", example = "false")
+    private Boolean emailAvailable;
+}
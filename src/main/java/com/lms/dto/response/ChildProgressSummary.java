@@ -0,0 +1,42 @@
+package com.lms.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object summarising a child's enrollments.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Enrollment summary for a single child")
+public class ChildProgressSummary {
+
+    @Schema(description = "Child ID", example = "12")
+    private Long childId;
+
+    @Schema(description = "Child name", example = "Jane")
+    private String name;
+
+    @Schema(description = "Child username", example = "jane_doe")
+    private String userName;
+
+    @Schema(description = "Case number", example = "ryt1234")
+    private String caseNumber;
+
+    @Schema(description = "Total number of enrollments", example = "5")
+    private long totalEnrollments;
+
+    @Schema(description = "Number of completed enrollments", example = "2")
+    private long completedEnrollments;
+
+    @Schema(description = "Number of enrollments still in progress", example = "3")
+    private long inProgressEnrollments;
+
+    @Schema(description = "Average progress across all enrollments", example = "64.5")
+    private double averageProgress;
+}
@@ -0,0 +1,29 @@
+package com.lms.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a soft-deleted row in the admin view.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Soft-deleted row")
+public class DeletedRecordResponse {
+
+    @Schema(description = "Row ID", example = "42")
+    private Long id;
+
+    @Schema(description = "When the row was deleted", example = "2024-01-01T10:15:30")
+    private LocalDateTime deletedAt;
+
+    @Schema(description = "Who deleted the row", example = "superadmin")
+    private String deletedBy;
+}
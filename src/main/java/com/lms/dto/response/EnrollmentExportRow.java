@@ -0,0 +1,27 @@
+package com.lms.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Flat row for the enrollment export.
+ * Built directly by the export query so no entities enter the persistence context.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"enrollmentId", "userId", "username", "email", "courseId", "courseTitle",
+        "courseCategory", "progressPercentage", "completed"})
+public class EnrollmentExportRow {
+    private Long enrollmentId;
+    private Long userId;
+    private String username;
+    private String email;
+    private Long courseId;
+    private String courseTitle;
+    private String courseCategory;
+    private int progressPercentage;
+    private Boolean completed;
+}
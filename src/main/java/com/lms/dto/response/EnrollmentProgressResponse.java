@@ -0,0 +1,30 @@
+package com.lms.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for an enrollment's progress after an update.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Enrollment progress and the version to send with the next update")
+public class EnrollmentProgressResponse {
+
+    @Schema(description = "Enrollment ID", example = "42")
+    private Long enrollmentId;
+
+    @Schema(description = "Progress percentage", example = "75")
+    private int progressPercentage;
+
+    @Schema(description = "Whether the course is completed", example = "false")
+    private Boolean completed;
+
+    @Schema(description = "Current version of the enrollment", example = "4")
+    private Long version;
+}
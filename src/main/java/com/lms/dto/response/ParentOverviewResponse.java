@@ -0,0 +1,33 @@
+package com.lms.dto.response;
+
+import com.lms.entity.ParentType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the parent family overview.
+ * Contains the parent and the enrollment summary of every linked child.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Family overview containing every linked child's enrollment summary")
+public class ParentOverviewResponse {
+
+    @Schema(description = "Parent ID", example = "3")
+    private Long parentId;
+
+    @Schema(description = "Parent name", example = "John")
+    private String name;
+
+    @Schema(description = "Parent type", example = "DECIDING")
+    private ParentType parentType;
+
+    private List<ChildProgressSummary> children;
+}
@@ -0,0 +1,27 @@
+package com.lms.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a permission granted to a role.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Permission granted to a role")
+public class PermissionResponse {
+
+    @Schema(description = "Permission ID", example = "4")
+    private Long id;
+
+    @Schema(description = "Permission name", example = "USER_READ")
+    private String name;
+
+    @Schema(description = "Permission description", example = "Read user accounts")
+    private String description;
+}
@@ -0,0 +1,41 @@
+package com.lms.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one time bucket of an enrollment's progress history.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Progress changes of an enrollment within one time bucket")
+public class ProgressHistoryBucket {
+
+    @Schema(description = "Start of the bucket (inclusive)")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "End of the bucket (exclusive)")
+    private LocalDateTime bucketEnd;
+
+    @Schema(description = "Lowest progress recorded in the bucket", example = "40")
+    private int minProgress;
+
+    @Schema(description = "Highest progress recorded in the bucket", example = "55")
+    private int maxProgress;
+
+    @Schema(description = "Last progress recorded in the bucket", example = "55")
+    private int lastProgress;
+
+    @Schema(description = "Whether the enrollment was completed at the end of the bucket", example = "false")
+    private boolean completed;
+
+    @Schema(description = "Number of changes recorded in the bucket", example = "3")
+    private long samples;
+}
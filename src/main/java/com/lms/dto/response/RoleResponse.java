@@ -0,0 +1,35 @@
+package com.lms.dto.response;
+
+import com.lms.entity.Role;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a role and its permissions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Role with its permissions")
+public class RoleResponse {
+
+    @Schema(description = "Role ID", example = "2")
+    private Long id;
+
+    @Schema(description = "Role name", example = "DECIDING_PARENT")
+    private Role role;
+
+    @Schema(description = "Role description", example = "Parent who can make decisions for the family")
+    private String description;
+
+    @Schema(description = "Version to send back with an update", example = "0")
+    private Long version;
+
+    private List<PermissionResponse> permissions;
+}
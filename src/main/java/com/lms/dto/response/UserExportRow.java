@@ -0,0 +1,26 @@
+package com.lms.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.lms.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat row for the user export.
+ * Built directly by the export query so no entities enter the persistence context.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"id", "username", "email", "role", "active", "createdAt"})
+public class UserExportRow {
+    private Long id;
+    private String username;
+    private String email;
+    private Role role;
+    private Boolean active;
+    private LocalDateTime createdAt;
+}
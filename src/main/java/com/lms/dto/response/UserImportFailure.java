@@ -0,0 +1,27 @@
+package com.lms.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a bulk import row that was not imported.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Row of a bulk import that was not imported")
+public class UserImportFailure {
+
+    @Schema(description = "Line number in the uploaded file, counting the CSV header", example = "17")
+    private long line;
+
+    @Schema(description = "Username on the row, if it could be read", example = "student42")
+    private String username;
+
+    @Schema(description = "Why the row was not imported", example = "Username already exists")
+    private String reason;
+}
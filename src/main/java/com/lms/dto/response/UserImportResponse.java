@@ -0,0 +1,38 @@
+package com.lms.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk user import.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a bulk user import")
+public class UserImportResponse {
+
+    @Schema(description = "Rows read, blank lines excluded", example = "25000")
+    private long total;
+
+    @Schema(description = "Users created", example = "24988")
+    private long imported;
+
+    @Schema(description = "Rows not imported", example = "12")
+    private long failed;
+
+    @Schema(description = "Failed rows in file order, up to the configured limit")
+    private List<UserImportFailure> failures;
+
+    @Schema(description = "Whether more rows failed than are listed", example = "false")
+    private boolean failuresTruncated;
+
+    @Schema(description = "Time taken in milliseconds", example = "41250")
+    private long durationMs;
+}
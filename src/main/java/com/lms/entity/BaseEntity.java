@@ -2,10 +2,15 @@ package com.lms.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.proxy.HibernateProxy;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -14,13 +19,22 @@ import java.util.UUID;
  * Base entity class providing common fields for all entities.
  * This class includes audit fields (createdAt, updatedAt, createdBy, updatedBy, deletedBy, deletedAt)
  * and a UUID primary key. Other entity classes should extend this class to inherit these common fields.
+ * The version column enables optimistic locking, so concurrent updates fail instead of overwriting each other.
+ * Soft-deleted rows are hidden from queries and collections by the {@value #NOT_DELETED_FILTER} filter,
+ * which is enabled on every session; lookups by primary key still return them.
+ * Equality is by entity class and identifier only, read without initializing proxies, so putting entities in
+ * sets or comparing them never triggers a lazy load; unsaved entities are only equal to themselves.
  */
 @MappedSuperclass
-@Data
+@FilterDef(name = BaseEntity.NOT_DELETED_FILTER, defaultCondition = "is_deleted = false")
+@Filter(name = BaseEntity.NOT_DELETED_FILTER)
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public abstract class BaseEntity {
 
+    public static final String NOT_DELETED_FILTER = "notDeleted";
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -44,4 +58,35 @@ public abstract class BaseEntity {
 
     @Column(name = "is_deleted", nullable = false)
     protected boolean isDeleted = false;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    protected Long version;
+
+    public abstract Long getId();
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BaseEntity entity) || entityClass(this) != entityClass(entity)) {
+            return false;
+        }
+        Long id = getId();
+        return id != null && id.equals(entity.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // Constant per class so the hash survives the identifier being assigned on persist
+        return entityClass(this).hashCode();
+    }
+
+    private static Class<?> entityClass(BaseEntity entity) {
+        return entity instanceof HibernateProxy proxy
+                ? proxy.getHibernateLazyInitializer().getPersistentClass()
+                : entity.getClass();
+    }
 }
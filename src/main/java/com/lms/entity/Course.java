@@ -1,16 +1,23 @@
 package com.lms.entity;
 
+import com.lms.cache.CacheInvalidationEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.EqualsAndHashCode;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 
 @Entity
+@EntityListeners(CacheInvalidationEntityListener.class)
 @Table(name = "courses")
-@Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "courses")
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
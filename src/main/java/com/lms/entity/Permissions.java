@@ -1,10 +1,16 @@
 package com.lms.entity;
 
+import com.lms.cache.CacheInvalidationEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@EntityListeners(CacheInvalidationEntityListener.class)
 @Table(name = "permission")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "permissions")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Permissions extends BaseEntity {
@@ -1,13 +1,19 @@
 package com.lms.entity;
 
+import com.lms.cache.CacheInvalidationEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.security.Permission;
 import java.util.Set;
 
 @Entity
+@EntityListeners(CacheInvalidationEntityListener.class)
 @Table(name = "roles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "roles")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Roles extends BaseEntity{
@@ -17,12 +23,13 @@ public class Roles extends BaseEntity{
     private Long id;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
+    @Column(nullable = false, unique = true, length = 20)
     private Role role; // e.g. "ADMIN", "STUDENT", "TEACHER"
 
     private String description;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role-permissions")
     @JoinTable(
             name = "role_permissions",
             joinColumns = @JoinColumn(name = "role_id"),
@@ -1,11 +1,12 @@
 package com.lms.entity;
 
+import com.lms.service.UserAvailabilityEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.EqualsAndHashCode;
+import lombok.Setter;
 
 /**
  * User entity representing a user in the system.
@@ -13,15 +14,16 @@ import lombok.EqualsAndHashCode;
  * Extends BaseEntity to inherit common audit fields (id, createdAt, updatedAt).
  */
 @Entity
+@EntityListeners(UserAvailabilityEntityListener.class)
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(columnNames = "username"),
     @UniqueConstraint(columnNames = "email")
 })
-@Data
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(callSuper = true)
 public class User extends BaseEntity {
 
     @Id
@@ -37,7 +39,8 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private String password;
 
-    @OneToOne(fetch = FetchType.EAGER)
+    // Many users share a role. Left as an uninitialized proxy: read the role through RoleRegistry by id
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "role_id", nullable = false)
     private Roles roles;
 
@@ -45,6 +48,8 @@ public class User extends BaseEntity {
     @Builder.Default
     private Boolean isActive = true;
 
+    // Owning side of the foreign key, so these stay proxies until used; @BatchSize on Parent and Child
+    // initializes up to 32 of them in one query when a list of users is walked
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
     private Parent parent;
@@ -0,0 +1,48 @@
+package com.lms.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds the time Hibernate spends executing JDBC statements and batches, and how long the session holds its
+ * JDBC connection, to the current {@link RequestStatistics} scope. Hibernate creates one instance per session,
+ * so the start timestamps need no synchronization.
+ */
+public class JdbcTimingSessionEventListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+    private long connectionAcquired;
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        connectionAcquired = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionReleaseEnd() {
+        if (connectionAcquired != 0) {
+            RequestStatistics.recordConnectionHold(System.nanoTime() - connectionAcquired);
+            connectionAcquired = 0;
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestStatistics.recordJdbcTime(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestStatistics.recordJdbcTime(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,35 @@
+package com.lms.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one {@code AuthService.login}, with the time split between password hashing and the database.
+ */
+@Name("com.lms.Login")
+@Label("Login")
+@Description("Username/password login, from credential check to token issue")
+@Category({"LMS", "Authentication"})
+@StackTrace(false)
+public class LoginEvent extends jdk.jfr.Event {
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Password Check")
+    @Description("Time in the authentication manager outside JDBC calls, dominated by BCrypt")
+    @Timespan(Timespan.NANOSECONDS)
+    public long passwordCheck;
+
+    @Label("Database")
+    @Description("Time executing JDBC statements")
+    @Timespan(Timespan.NANOSECONDS)
+    public long database;
+
+    @Label("Statements")
+    public int statements;
+}
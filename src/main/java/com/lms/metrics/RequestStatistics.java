@@ -0,0 +1,133 @@
+package com.lms.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-request counters for SQL statements, JDBC time, connection hold time, authentication time and serialization.
+ * Bound to the handling thread between {@link #begin(boolean)} and {@link #end()}; scopes nest, and a
+ * recording is added to the current scope and every enclosing one.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private final RequestStatistics parent;
+    private final List<String> statementSql;
+    private final long startNanos = System.nanoTime();
+
+    private int statements;
+    private long jdbcNanos;
+    private long connectionNanos;
+    private long authNanos;
+    private long serializationStartNanos;
+
+    private RequestStatistics(RequestStatistics parent, boolean captureSql) {
+        this.parent = parent;
+        this.statementSql = captureSql ? new ArrayList<>() : null;
+    }
+
+    /**
+     * Open a scope on the current thread
+     *
+     * @param captureSql whether to keep the SQL text of each statement
+     * @return the new scope
+     */
+    public static RequestStatistics begin(boolean captureSql) {
+        RequestStatistics statistics = new RequestStatistics(CURRENT.get(), captureSql);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Close the innermost scope on the current thread
+     */
+    public static void end() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return;
+        }
+        if (statistics.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(statistics.parent);
+        }
+    }
+
+    static void recordStatement(String sql) {
+        for (RequestStatistics scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements++;
+            if (scope.statementSql != null) {
+                scope.statementSql.add(sql);
+            }
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        for (RequestStatistics scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.jdbcNanos += nanos;
+        }
+    }
+
+    static void recordConnectionHold(long nanos) {
+        for (RequestStatistics scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.connectionNanos += nanos;
+        }
+    }
+
+    /**
+     * Add time spent authenticating the request
+     *
+     * @param nanos elapsed nanoseconds
+     */
+    public static void recordAuthTime(long nanos) {
+        for (RequestStatistics scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.authNanos += nanos;
+        }
+    }
+
+    static void markSerializationStart() {
+        RequestStatistics scope = CURRENT.get();
+        if (scope != null && scope.serializationStartNanos == 0) {
+            scope.serializationStartNanos = System.nanoTime();
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * @return time Hibernate sessions held a pooled JDBC connection, from acquisition to release
+     */
+    public long getConnectionNanos() {
+        return connectionNanos;
+    }
+
+    public long getAuthNanos() {
+        return authNanos;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * @return when the response body started being written, or 0 if no body was serialized
+     */
+    public long getSerializationStartNanos() {
+        return serializationStartNanos;
+    }
+
+    /**
+     * @return SQL of each statement, empty unless the scope was opened with captureSql
+     */
+    public List<String> getStatementSql() {
+        return statementSql == null ? List.of() : Collections.unmodifiableList(statementSql);
+    }
+}
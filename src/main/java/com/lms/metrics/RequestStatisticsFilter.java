@@ -0,0 +1,166 @@
+package com.lms.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link RequestStatistics} scope per request and publishes the result.
+ * <ul>
+ *     <li>Always: {@code lms.request.sql.statements}, {@code lms.request.sql.time} and
+ *     {@code lms.request.connection.hold} histograms per route</li>
+ *     <li>When Server-Timing is enabled: a {@code Server-Timing} header with auth, db, conn, serialize and total</li>
+ * </ul>
+ * The header needs the body buffered until the handler is done; streamed responses bypass the buffer and go
+ * without the header.
+ */
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final boolean serverTiming;
+    private final Meter.MeterProvider<DistributionSummary> statementSummaries;
+    private final Meter.MeterProvider<Timer> jdbcTimers;
+    private final Meter.MeterProvider<Timer> connectionHoldTimers;
+
+    public RequestStatisticsFilter(MeterRegistry registry, boolean serverTiming) {
+        this.serverTiming = serverTiming;
+        this.statementSummaries = DistributionSummary.builder("lms.request.sql.statements")
+                .description("SQL statements issued through Hibernate per request")
+                .baseUnit("statements")
+                .withRegistry(registry);
+        this.jdbcTimers = Timer.builder("lms.request.sql.time")
+                .description("Time spent executing Hibernate JDBC statements per request")
+                .withRegistry(registry);
+        this.connectionHoldTimers = Timer.builder("lms.request.connection.hold")
+                .description("Time Hibernate sessions held a pooled JDBC connection per request")
+                .withRegistry(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // A response buffered on the first dispatch is only complete after the async dispatch
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (isAsyncDispatch(request)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                BufferingResponseWrapper buffered = WebUtils.getNativeResponse(response, BufferingResponseWrapper.class);
+                if (buffered != null) {
+                    buffered.copyBodyToResponse();
+                }
+            }
+            return;
+        }
+
+        RequestStatistics statistics = RequestStatistics.begin(false);
+        BufferingResponseWrapper buffered = serverTiming ? new BufferingResponseWrapper(request, response) : null;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            RequestStatistics.end();
+            long end = System.nanoTime();
+            record(request, statistics);
+
+            if (buffered != null && !request.isAsyncStarted()) {
+                if (!buffered.isCommitted()) {
+                    buffered.setHeader(SERVER_TIMING, serverTimingHeader(statistics, end));
+                }
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+        statementSummaries.withTags(tags).record(statistics.getStatements());
+        jdbcTimers.withTags(tags).record(statistics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        connectionHoldTimers.withTags(tags).record(statistics.getConnectionNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static String serverTimingHeader(RequestStatistics statistics, long end) {
+        long serialization = statistics.getSerializationStartNanos() == 0
+                ? 0 : end - statistics.getSerializationStartNanos();
+        return "auth;dur=" + millis(statistics.getAuthNanos())
+                + ", db;dur=" + millis(statistics.getJdbcNanos()) + ";desc=\"" + statistics.getStatements() + " statements\""
+                + ", conn;dur=" + millis(statistics.getConnectionNanos())
+                + ", serialize;dur=" + millis(serialization)
+                + ", total;dur=" + millis(end - statistics.getStartNanos());
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Buffers the body so the header can still be set after the handler has written it. Streaming handlers
+     * (StreamingResponseBody, ResponseBodyEmitter) write straight to the client; Spring obtains their output
+     * stream before the request goes async, so the decision is made from the matched handler.
+     */
+    private static final class BufferingResponseWrapper extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+        private Boolean streaming;
+
+        BufferingResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isStreaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        private boolean isStreaming() {
+            if (streaming == null) {
+                streaming = request.isAsyncStarted()
+                        || request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                        && isStreamingBody(ResolvableType.forMethodParameter(handler.getReturnType()));
+            }
+            return streaming;
+        }
+
+        private static boolean isStreamingBody(ResolvableType returnType) {
+            Class<?> body = ResponseEntity.class.isAssignableFrom(returnType.toClass())
+                    ? returnType.getGeneric(0).toClass()
+                    : returnType.toClass();
+            return StreamingResponseBody.class.isAssignableFrom(body) || ResponseBodyEmitter.class.isAssignableFrom(body);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.lms.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares against the current {@link RequestStatistics} scope.
+ * Statements issued through JdbcTemplate bypass Hibernate and are not counted.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatistics.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,24 @@
+package com.lms.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one JWT verification, internal ({@code JwtUtil}) or external ({@code ExternalTokenVerifier}).
+ */
+@Name("com.lms.TokenVerification")
+@Label("Token Verification")
+@Description("Signature, expiry and claim checks of a bearer token")
+@Category({"LMS", "Authentication"})
+@StackTrace(false)
+public class TokenVerificationEvent extends jdk.jfr.Event {
+
+    @Label("Token Type")
+    public String tokenType;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,24 @@
+package com.lms.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the creation of a local user on the first request with an external token.
+ */
+@Name("com.lms.UserProvisioning")
+@Label("User Provisioning")
+@Description("Local user, child or parent rows created for an external token")
+@Category({"LMS", "Authentication"})
+@StackTrace(false)
+public class UserProvisioningEvent extends jdk.jfr.Event {
+
+    @Label("Role")
+    public String role;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -1,20 +1,26 @@
 package com.lms.repository;
 
 import com.lms.entity.Course;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 /**
  * Repository for Course entity operations.
  * Provides CRUD operations and custom queries for Course management.
+ * Finder results are kept in the Hibernate query cache ("course-queries" region).
+ * Soft-deleted courses are excluded by the session-wide soft delete filter.
  */
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
+public interface CourseRepository extends SoftDeleteRepository<Course> {
 
     /**
      * Find a course by title
@@ -22,30 +28,49 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * @param title the course title
      * @return Optional containing the course if found
      */
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "course-queries")
+    })
     Optional<Course> findByTitle(String title);
 
     /**
-     * Find all active courses
+     * Find all active, non-deleted courses
      * 
      * @return list of active courses
      */
+    @Query("SELECT c FROM Course c WHERE c.isActive = true")
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "course-queries")
+    })
     List<Course> findByIsActiveTrue();
 
     /**
-     * Find all courses in a specific category
+     * Find all non-deleted courses in a specific category
      * 
      * @param category the course category
      * @return list of courses in the category
      */
-    List<Course> findByCategory(String category);
+    @Query("SELECT c FROM Course c WHERE c.category = :category")
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "course-queries")
+    })
+    List<Course> findByCategory(@Param("category") String category);
 
     /**
-     * Find all active courses in a specific category
+     * Find all active, non-deleted courses in a specific category
      * 
      * @param category the course category
      * @return list of active courses in the category
      */
-    List<Course> findByCategoryAndIsActiveTrue(String category);
+    @Query("SELECT c FROM Course c WHERE c.category = :category AND c.isActive = true")
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "course-queries")
+    })
+    List<Course> findByCategoryAndIsActiveTrue(@Param("category") String category);
 
     /**
      * Search courses by title or description (case-insensitive)
@@ -54,8 +79,11 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * @return list of matching courses
      */
     @Query("SELECT c FROM Course c WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "AND c.isDeleted = false")
+           "OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "course-queries")
+    })
     List<Course> searchCourses(@Param("keyword") String keyword);
 
     /**
@@ -63,7 +91,11 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * 
      * @return list of non-deleted courses
      */
-    @Query("SELECT c FROM Course c WHERE c.isDeleted = false")
+    @Query("SELECT c FROM Course c")
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "course-queries")
+    })
     List<Course> findAllActive();
 
     /**
@@ -72,14 +104,23 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * @param title the course title
      * @return true if course exists
      */
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "course-queries")
+    })
     boolean existsByTitle(String title);
 
     /**
-     * Count active courses in a category
+     * Count active, non-deleted courses in a category
      * 
      * @param category the course category
      * @return count of active courses
      */
-    long countByCategoryAndIsActiveTrue(String category);
+    @Query("SELECT COUNT(c) FROM Course c WHERE c.category = :category AND c.isActive = true")
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "course-queries")
+    })
+    long countByCategoryAndIsActiveTrue(@Param("category") String category);
 }
 
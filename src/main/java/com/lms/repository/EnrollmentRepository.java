@@ -1,22 +1,33 @@
 package com.lms.repository;
 
+import com.lms.dto.projection.EnrollmentProgressRow;
+import com.lms.dto.response.EnrollmentExportRow;
 import com.lms.entity.Course;
 import com.lms.entity.Enrollment;
 import com.lms.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository for Enrollment entity operations.
  * Provides CRUD operations and custom queries for Enrollment management.
+ * Soft-deleted enrollments are excluded by the session-wide soft delete filter.
  */
 @Repository
-public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+public interface EnrollmentRepository extends SoftDeleteRepository<Enrollment> {
 
     /**
      * Find all enrollments for a specific child/user
@@ -111,21 +122,111 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     boolean existsByChildAndCourse(User child, Course course);
 
     /**
-     * Find all non-deleted enrollments for a child
-     * 
-     * @param child the user/child
-     * @return list of non-deleted enrollments
-     */
-//    @Query("SELECT e FROM Enrollment e WHERE e.child = :child AND e.isDeleted = false")
-//    List<Enrollment> findActiveEnrollmentsByChild(@Param("child") User child);
-//
-//    /**
-//     * Find all non-deleted enrollments for a course
-//     *
-//     * @param course the course
-//     * @return list of non-deleted enrollments
-//     */
-//    @Query("SELECT e FROM Enrollment e WHERE e.course = :course AND e.isDeleted = false")
-//    List<Enrollment> findActiveEnrollmentsByCourse(@Param("course") Course course);
-}
+     * Soft delete the live enrollments of the given children
+     *
+     * @param childIds the user IDs of the children
+     * @param deletedAt the deletion timestamp
+     * @param deletedBy who deleted the rows
+     * @return number of enrollments deleted
+     */
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.isDeleted = true, e.deletedAt = :deletedAt, e.deletedBy = :deletedBy, " +
+           "e.version = e.version + 1 WHERE e.child.id IN :childIds AND e.isDeleted = false")
+    int softDeleteByChildIds(@Param("childIds") Collection<Long> childIds,
+                             @Param("deletedAt") LocalDateTime deletedAt,
+                             @Param("deletedBy") String deletedBy);
+
+    /**
+     * Soft delete the live enrollments of the given courses
+     *
+     * @param courseIds the course IDs
+     * @param deletedAt the deletion timestamp
+     * @param deletedBy who deleted the rows
+     * @return number of enrollments deleted
+     */
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.isDeleted = true, e.deletedAt = :deletedAt, e.deletedBy = :deletedBy, " +
+           "e.version = e.version + 1 WHERE e.course.id IN :courseIds AND e.isDeleted = false")
+    int softDeleteByCourseIds(@Param("courseIds") Collection<Long> courseIds,
+                              @Param("deletedAt") LocalDateTime deletedAt,
+                              @Param("deletedBy") String deletedBy);
+
+    /**
+     * Restore the enrollments of the given children that were deleted together with them
+     *
+     * @param childIds the user IDs of the children
+     * @param deletedAt the deletion timestamp of the children
+     * @return number of enrollments restored
+     */
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.isDeleted = false, e.deletedAt = null, e.deletedBy = null, " +
+           "e.version = e.version + 1 WHERE e.child.id IN :childIds AND e.isDeleted = true AND e.deletedAt = :deletedAt")
+    int restoreByChildIds(@Param("childIds") Collection<Long> childIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Restore the enrollments of the given courses that were deleted together with them
+     *
+     * @param courseIds the course IDs
+     * @param deletedAt the deletion timestamp of the courses
+     * @return number of enrollments restored
+     */
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.isDeleted = false, e.deletedAt = null, e.deletedBy = null, " +
+           "e.version = e.version + 1 WHERE e.course.id IN :courseIds AND e.isDeleted = true AND e.deletedAt = :deletedAt")
+    int restoreByCourseIds(@Param("courseIds") Collection<Long> courseIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Stream every enrollment joined with its user and course for export.
+     * Must be consumed inside a read-only transaction and closed afterwards.
+     *
+     * @return stream of flat export rows ordered by enrollment ID
+     */
+    @Query("SELECT new com.lms.dto.response.EnrollmentExportRow(e.id, u.id, u.username, u.email, " +
+           "c.id, c.title, c.category, e.progressPercentage, e.isCompleted) " +
+           "FROM Enrollment e JOIN e.child u JOIN e.course c ORDER BY e.id")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<EnrollmentExportRow> streamAllForExport();
+
+    /**
+     * Check whether an enrollment belongs to a user: the user is the enrolled child, or a parent of the child's family.
+     * Compares foreign keys only, without loading any entity.
+     *
+     * @param id the enrollment ID
+     * @param username the username
+     * @return true if the enrollment belongs to the user
+     */
+    @Query("SELECT COUNT(e) > 0 FROM Enrollment e JOIN e.child u LEFT JOIN u.child c, User me " +
+           "WHERE e.id = :id AND me.username = :username " +
+           "AND (u.id = me.id OR (me.parent.id IS NOT NULL AND c.parent.id = me.parent.id))")
+    boolean isOwnedBy(@Param("id") Long id, @Param("username") String username);
 
+    /**
+     * Find the progress and version of an enrollment without loading its associations
+     *
+     * @param id the enrollment ID
+     * @return Optional containing the progress row if found
+     */
+    @Query("SELECT e.id AS id, e.progressPercentage AS progressPercentage, " +
+           "e.isCompleted AS isCompleted, e.version AS version FROM Enrollment e WHERE e.id = :id")
+    Optional<EnrollmentProgressRow> findProgressById(@Param("id") Long id);
+
+    /**
+     * Set the progress of an enrollment only if it still has the expected version
+     *
+     * @param id the enrollment ID
+     * @param progress the new progress percentage
+     * @param completed whether the enrollment is completed
+     * @param version the version the caller last read
+     * @return number of updated rows, 0 if the version no longer matches
+     */
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.progressPercentage = :progress, e.isCompleted = :completed, " +
+           "e.version = e.version + 1 WHERE e.id = :id AND e.version = :version")
+    int updateProgressIfVersion(@Param("id") Long id,
+                                @Param("progress") int progress,
+                                @Param("completed") boolean completed,
+                                @Param("version") Long version);
+}
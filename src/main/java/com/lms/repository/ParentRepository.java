@@ -1,7 +1,37 @@
 package com.lms.repository;
 
+import com.lms.dto.projection.ParentOverviewRow;
 import com.lms.entity.Parent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ParentRepository extends JpaRepository<Parent,Long> {
+
+    /**
+     * Load a parent together with an enrollment summary for every linked child.
+     * Aggregation happens in the database so the cost is a single statement
+     * regardless of family size or number of enrollments.
+     * Native SQL is not covered by the soft delete filter, so every table repeats the is_deleted predicate.
+     *
+     * @param parentId the parent ID
+     * @return one row per child, or a single row with null child columns if the parent has no children;
+     *         empty if the parent does not exist
+     */
+    @Query(value = "SELECT p.id AS parentId, p.name AS parentName, p.parent_type AS parentType, " +
+                   "c.id AS childId, c.name AS childName, c.user_name AS childUserName, c.case_number AS caseNumber, " +
+                   "COUNT(e.id) AS totalEnrollments, " +
+                   "COUNT(e.id) FILTER (WHERE e.is_completed) AS completedEnrollments, " +
+                   "CAST(COALESCE(AVG(e.progress_percentage), 0) AS double precision) AS averageProgress " +
+                   "FROM parent p " +
+                   "LEFT JOIN child c ON c.parent_id = p.id AND c.is_deleted = false " +
+                   "LEFT JOIN users u ON u.child_id = c.id AND u.is_deleted = false " +
+                   "LEFT JOIN enrollments e ON e.child_id = u.id AND e.is_deleted = false " +
+                   "WHERE p.id = :parentId AND p.is_deleted = false " +
+                   "GROUP BY p.id, c.id " +
+                   "ORDER BY c.id",
+           nativeQuery = true)
+    List<ParentOverviewRow> findFamilyOverview(@Param("parentId") Long parentId);
 }
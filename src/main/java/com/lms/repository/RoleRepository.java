@@ -2,9 +2,12 @@ package com.lms.repository;
 
 import com.lms.entity.Role;
 import com.lms.entity.Roles;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -32,5 +35,31 @@ public interface RoleRepository extends JpaRepository<Roles, Long> {
 
     Optional<Roles> findByRole(Role role);
 
+    /**
+     * Find all roles with their permissions, in one statement
+     *
+     * @return all roles ordered by ID
+     */
+    @EntityGraph(attributePaths = "permissions")
+    @Query("SELECT r FROM Roles r ORDER BY r.id")
+    List<Roles> findAllWithPermissions();
+
+    /**
+     * Find a role with its permissions, in one statement
+     *
+     * @param id the role ID
+     * @return Optional containing the role if found
+     */
+    @EntityGraph(attributePaths = "permissions")
+    Optional<Roles> findWithPermissionsById(Long id);
+
+    /**
+     * Find a role with its permissions, in one statement
+     *
+     * @param role the role
+     * @return Optional containing the role if found
+     */
+    @EntityGraph(attributePaths = "permissions")
+    Optional<Roles> findWithPermissionsByRole(Role role);
 }
 
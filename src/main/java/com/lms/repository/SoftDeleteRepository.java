@@ -0,0 +1,60 @@
+package com.lms.repository;
+
+import com.lms.entity.BaseEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Base repository for entities extending {@link BaseEntity}.
+ * Soft deletes and restores run as single bulk updates instead of loading each entity.
+ * Bulk updates bypass entity callbacks, so callers publish cache invalidations themselves.
+ *
+ * @param <T> the entity type
+ */
+@NoRepositoryBean
+public interface SoftDeleteRepository<T extends BaseEntity> extends JpaRepository<T, Long> {
+
+    /**
+     * Mark live rows as deleted
+     *
+     * @param ids the IDs to delete
+     * @param deletedAt the deletion timestamp
+     * @param deletedBy who deleted the rows
+     * @return number of rows deleted, already deleted rows are not counted
+     */
+    @Modifying
+    @Query("UPDATE #{#entityName} e SET e.isDeleted = true, e.deletedAt = :deletedAt, e.deletedBy = :deletedBy, " +
+           "e.version = e.version + 1 WHERE e.id IN :ids AND e.isDeleted = false")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids,
+                        @Param("deletedAt") LocalDateTime deletedAt,
+                        @Param("deletedBy") String deletedBy);
+
+    /**
+     * Bring deleted rows back
+     *
+     * @param ids the IDs to restore
+     * @return number of rows restored
+     */
+    @Modifying
+    @Query("UPDATE #{#entityName} e SET e.isDeleted = false, e.deletedAt = null, e.deletedBy = null, " +
+           "e.version = e.version + 1 WHERE e.id IN :ids AND e.isDeleted = true")
+    int restoreByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find deleted rows, newest deletion first.
+     * Returns nothing unless the soft delete filter is disabled for the current session.
+     *
+     * @param pageable the page to return
+     * @return list of deleted entities
+     */
+    @Query("SELECT e FROM #{#entityName} e WHERE e.isDeleted = true ORDER BY e.deletedAt DESC")
+    List<T> findAllDeleted(Pageable pageable);
+}
@@ -1,18 +1,27 @@
 package com.lms.repository;
 
+import com.lms.dto.projection.UserAccountRow;
+import com.lms.dto.response.UserExportRow;
 import com.lms.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository interface for User entity.
  * Provides database operations for user management.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends SoftDeleteRepository<User> {
     
     /**
      * Find user by username.
@@ -23,28 +32,33 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
     
     /**
-     * Find user by email.
+     * Find user by email (case-insensitive).
      * 
      * @param email the email to search for
      * @return Optional containing the user if found
      */
-    Optional<User> findByEmail(String email);
+    @Query("SELECT u FROM User u WHERE LOWER(u.email) = LOWER(:email)")
+    Optional<User> findByEmail(@Param("email") String email);
     
     /**
      * Check if user exists by username.
+     * Includes soft-deleted users, whose usernames are still held by the unique constraint.
      * 
      * @param username the username to check
      * @return true if user exists, false otherwise
      */
-    boolean existsByUsername(String username);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM users WHERE username = :username)", nativeQuery = true)
+    boolean existsByUsername(@Param("username") String username);
     
     /**
      * Check if user exists by email.
+     * Includes soft-deleted users, whose emails are still held by the unique constraint.
      * 
      * @param email the email to check
      * @return true if user exists, false otherwise
      */
-    boolean existsByEmail(String email);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM users WHERE email = :email)", nativeQuery = true)
+    boolean existsByEmail(@Param("email") String email);
     
     /**
      * Find user by username or email.
@@ -54,5 +68,41 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return Optional containing the user if found
      */
     Optional<User> findByUsernameOrEmail(String username, String email);
-}
 
+    /**
+     * Find the account matching a login, by username or case-insensitive email.
+     * A username match sorts ahead of an email match.
+     *
+     * @param login the username or email
+     * @return matching accounts with their role, at most one per column
+     */
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email, r.role AS role " +
+           "FROM User u JOIN u.roles r " +
+           "WHERE u.username = :login OR LOWER(u.email) = LOWER(:login) " +
+           "ORDER BY CASE WHEN u.username = :login THEN 0 ELSE 1 END")
+    List<UserAccountRow> findAccounts(@Param("login") String login);
+
+    /**
+     * Check whether a user is linked to a parent, without loading either entity
+     *
+     * @param username the username
+     * @param parentId the parent ID
+     * @return true if the user is linked to the parent
+     */
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.username = :username AND u.parent.id = :parentId")
+    boolean isLinkedToParent(@Param("username") String username, @Param("parentId") Long parentId);
+
+    /**
+     * Stream every user with their role for export.
+     * Must be consumed inside a read-only transaction and closed afterwards.
+     *
+     * @return stream of flat export rows ordered by user ID
+     */
+    @Query("SELECT new com.lms.dto.response.UserExportRow(u.id, u.username, u.email, r.role, u.isActive, u.createdAt) " +
+           "FROM User u JOIN u.roles r ORDER BY u.id")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserExportRow> streamAllForExport();
+}
@@ -1,8 +1,8 @@
 package com.lms.security;
 
 import com.lms.entity.Role;
-import com.lms.entity.Roles;
-import com.lms.repository.RoleRepository;
+import com.lms.metrics.TokenVerificationEvent;
+import com.lms.service.RoleRegistry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
@@ -27,14 +27,25 @@ import java.util.List;
 public class ExternalTokenVerifier {
 
     private final String secret;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
-    public ExternalTokenVerifier(@Value("${jwt.secret}") String secret, RoleRepository roleRepository) {
+    public ExternalTokenVerifier(@Value("${jwt.secret}") String secret, RoleRegistry roleRegistry) {
         this.secret = secret;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
     }
 
+    /**
+     * Verify an external token and resolve its role.
+     * Emits a {@link TokenVerificationEvent} when JFR has it enabled.
+     *
+     * @param token the raw JWT
+     * @return the verified payload
+     * @throws TokenValidationException if the token is expired, malformed or missing claims
+     */
     public ExternalTokenPayload verify(String token) {
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        String outcome = "error";
         try {
             Claims claims = Jwts.parser()
                     .verifyWith(getSigningKey())
@@ -43,30 +54,50 @@ public class ExternalTokenVerifier {
                     .getPayload();
 
             validateExpiration(claims);
-            String role = extractStringList(claims.get("roles")).toString();
-            Roles roles = null;
-            if(Role.CHILD.name().equals(role)){
-                roles =  roleRepository.findByRole(Role.CHILD).orElse(null);
-            }else if(Role.DECIDING_PARENT.name().equals(role)) {
-                roles = roleRepository.findByRole(Role.DECIDING_PARENT).orElse(null);
-            }else if(Role.NON_DECIDING_PARENT.name().equals(role)) {
-                roles = roleRepository.findByRole(Role.NON_DECIDING_PARENT).orElse(null);
+            List<String> roleNames = extractStringList(claims.get("roles"));
+            String roleName = roleNames.isEmpty() ? null : roleNames.get(0);
+            Role role = null;
+            if (Role.CHILD.name().equals(roleName)) {
+                role = Role.CHILD;
+            } else if (Role.DECIDING_PARENT.name().equals(roleName)) {
+                role = Role.DECIDING_PARENT;
+            } else if (Role.NON_DECIDING_PARENT.name().equals(roleName)) {
+                role = Role.NON_DECIDING_PARENT;
+            }
+            // Checked against the in-memory registry, not a query per token
+            if (!roleRegistry.contains(role)) {
+                throw new IllegalArgumentException("No supported role in token: " + roleNames);
             }
 
-
-            return ExternalTokenPayload.builder()
+            ExternalTokenPayload payload = ExternalTokenPayload.builder()
                     .userId(extractUserId(claims))
                     .username(claims.getSubject())
-                    .role(roles.getRole())
+                    .role(role)
                     .claims(claims)
                     .caseNumber("ryt1234")
                     .build();
+            outcome = "valid";
+            return payload;
+        } catch (TokenValidationException ex) {
+            // Raised by validateExpiration
+            outcome = "expired";
+            throw ex;
         } catch (ExpiredJwtException ex) {
+            outcome = "expired";
             throw new TokenValidationException("Token expired", ex);
         } catch (JwtException ex) {
+            outcome = "invalid";
             throw new TokenValidationException("Invalid token", ex);
         } catch (IllegalArgumentException ex) {
+            outcome = "missing_claims";
             throw new TokenValidationException("Token is missing required claims", ex);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.tokenType = "external";
+                event.outcome = outcome;
+                event.commit();
+            }
         }
     }
 
@@ -1,10 +1,11 @@
 package com.lms.security;
 
 import com.lms.entity.*;
+import com.lms.metrics.UserProvisioningEvent;
 import com.lms.repository.ChildRepository;
 import com.lms.repository.ParentRepository;
-import com.lms.repository.RoleRepository;
 import com.lms.repository.UserRepository;
+import com.lms.service.RoleRegistry;
 import com.lms.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -13,6 +14,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,6 +29,8 @@ import java.rmi.RemoteException;
 import java.util.List;
 import java.util.Optional;
 
+import static com.lms.security.AuthenticationMetrics.*;
+
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -38,38 +43,58 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final ExternalTokenVerifier tokenVerifier; // EXTERNAL TOKEN Validator
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final ChildRepository childRepository;
     private final ParentRepository parentRepository;
 
+    private final AuthenticationMetrics metrics;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
-        String token = extractToken(request);
+        String token = metrics.time(STAGE_EXTRACTION, TOKEN_NONE, () -> extractToken(request),
+                extracted -> extracted != null ? "present" : "absent");
 
         if (token != null) {
 
+            String tokenType = TOKEN_INTERNAL;
             try {
                 // ⭐ STEP 1 — CHECK IF TOKEN IS INTERNAL LMS TOKEN
-                if (jwtService.isValidInternalToken(token)) {
+                if (metrics.time(STAGE_INTERNAL_VALIDATION, TOKEN_INTERNAL, () -> jwtService.isValidInternalToken(token),
+                        valid -> valid ? "valid" : "invalid")) {
                     handleInternalToken(token, request);
+                    metrics.countRequest(TOKEN_INTERNAL, "authenticated");
                     filterChain.doFilter(request, response);
                     return;
                 }
 
                 // ⭐ STEP 2 — OTHERWISE, TREAT AS EXTERNAL TOKEN
+                tokenType = TOKEN_EXTERNAL;
                 handleExternalToken(token, request);
+                metrics.countRequest(TOKEN_EXTERNAL, "authenticated");
 
             } catch (TokenValidationException ex) {
+                metrics.countRequest(tokenType, "rejected");
                 logger.warn("Token validation failed: {}", ex.getMessage());
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.setContentType("application/json");
                 response.getWriter().write("{\"success\":false,\"message\":\"" + ex.getMessage() + "\"}");
                 return;
+            } catch (DataAccessResourceFailureException ex) {
+                metrics.countRequest(tokenType, "unavailable");
+                // Runs before the DispatcherServlet, so GlobalExceptionHandler never sees a pool timeout here
+                logger.warn("No database connection available for user lookup: {}", ex.getMessage());
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.setContentType("application/json");
+                response.getWriter().write("{\"success\":false,\"message\":\"The service is busy, please retry shortly\"}");
+                return;
             }
+        } else {
+            metrics.countRequest(TOKEN_NONE, "anonymous");
         }
 
         filterChain.doFilter(request, response);
@@ -82,15 +107,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String username = jwtService.extractUsername(token);
 
-        User user = userRepository.findByUsername(username)
+        User user = findUser(username, TOKEN_INTERNAL)
                 .orElseThrow(() -> new RuntimeException("User not found for internal token"));
 
         SimpleGrantedAuthority authority =
-                new SimpleGrantedAuthority("ROLE_" + user.getRoles().getRole().name());
+                new SimpleGrantedAuthority("ROLE_" + roleRegistry.roleOf(user).name());
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
-                        user,
+                        user.getUsername(),
                         null,
                         List.of(authority)
                 );
@@ -108,19 +133,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private void handleExternalToken(String token, HttpServletRequest request)
             throws TokenValidationException, RemoteException {
 
-        ExternalTokenPayload payload = tokenVerifier.verify(token);
+        ExternalTokenPayload payload = metrics.time(STAGE_EXTERNAL_VERIFICATION, TOKEN_EXTERNAL,
+                () -> tokenVerifier.verify(token));
 
         logger.debug("Valid external JWT for user: {}", payload.getUsername());
 
-        Optional<User> userOpt = userRepository.findByUsername(payload.getUsername());
+        Optional<User> userOpt = findUser(payload.getUsername(), TOKEN_EXTERNAL);
 
-        User user = userOpt.orElseGet(() -> createExternalUser(payload));
+        User user = userOpt.orElseGet(() ->
+                metrics.time(STAGE_PROVISIONING, TOKEN_EXTERNAL, () -> createExternalUser(payload)));
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
                         user.getUsername(),
                         null,
-                        List.of(new SimpleGrantedAuthority("ROLE_" + user.getRoles().getRole().name()))
+                        List.of(new SimpleGrantedAuthority("ROLE_" + roleRegistry.roleOf(user).name()))
                 );
 
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -133,19 +160,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // CREATE USER FOR EXTERNAL TOKEN
     // ------------------------------------------------------------
     private User createExternalUser(ExternalTokenPayload payload) {
+        UserProvisioningEvent event = new UserProvisioningEvent();
+        event.begin();
+        String outcome = "error";
+        try {
+            User user = provisionUser(payload);
+            outcome = "created";
+            return user;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.role = payload.getRole() != null ? payload.getRole().name() : null;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private User provisionUser(ExternalTokenPayload payload) {
 
-        Roles role = roleRepository.findByRole(payload.getRole().name())
-                .orElseThrow(() -> new RuntimeException("Role not found: " + payload.getRole().name()));
+        Role role = payload.getRole();
 
         User newUser = new User();
         newUser.setId(payload.getUserId());
         newUser.setUsername(payload.getUsername());
         newUser.setEmail(payload.getEmail());
-        newUser.setRoles(role);
+        newUser.setRoles(roleRegistry.reference(role));
 
         Long externalId = payload.getUserId();
 
-        switch (role.getRole()) {
+        switch (role) {
 
             case CHILD -> {
                 Child child = new Child();
@@ -166,7 +210,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 parent.setUserEmail(payload.getEmail());
                 parent.setGender(payload.getGender());
                 parent.setParentType(
-                        role.getRole() == Role.DECIDING_PARENT
+                        role == Role.DECIDING_PARENT
                                 ? ParentType.DECIDING
                                 : ParentType.NON_DECIDING
                 );
@@ -174,12 +218,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 newUser.setParent(parent);
             }
 
-            default -> throw new RuntimeException("Unhandled external role: " + role.getRole().name());
+            default -> throw new RuntimeException("Unhandled external role: " + role.name());
         }
 
         return userRepository.save(newUser);
     }
 
+    private Optional<User> findUser(String username, String tokenType) {
+        return metrics.time(STAGE_USER_LOOKUP, tokenType, () -> userRepository.findByUsername(username),
+                found -> found.isPresent() ? "found" : "not_found");
+    }
+
     private String extractToken(HttpServletRequest request) {
         String header = request.getHeader(AUTH_HEADER);
         if (!StringUtils.hasText(header)) {
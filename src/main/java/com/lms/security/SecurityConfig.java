@@ -3,9 +3,12 @@ package com.lms.security;
 import com.lms.config.CustomAccessDeniedHandler;
 import com.lms.config.CustomAuthenticationEntryPoint;
 import com.lms.service.UserService;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -30,6 +33,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final Environment environment;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -41,16 +45,21 @@ public class SecurityConfig {
                 )
 
                 .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/v1/auth/register","/api/v1/auth/login").permitAll()
+                // Streamed responses finish on an async dispatch, which carries no JWT; the request was authorized already
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers("/api/v1/auth/register","/api/v1/auth/login","/api/v1/auth/availability").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**").permitAll()
                 .requestMatchers("/error").permitAll()
+                // Actuator is served on management.server.port, which is not published; only the probes are public
+                .requestMatchers(this::isManagementPort).permitAll()
+                .requestMatchers("/livez", "/readyz").permitAll()
 
                 // Admin-only endpoints
                 .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/v1/roles/**").hasRole("CHILD")  // ⭐ ADD THIS
 
                 // Parent
-                .requestMatchers("/api/v1/parent/**").hasAnyRole("ADMIN", "PARENT")
+                .requestMatchers("/api/v1/parent/**").hasAnyRole("ADMIN", "PARENT", "DECIDING_PARENT", "NON_DECIDING_PARENT")
 
                 // Child
                 .requestMatchers("/api/v1/child/**").hasAnyRole("ADMIN", "CHILD")
@@ -69,6 +78,15 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Whether the request arrived on the separate management server, which shares this filter chain.
+     * False when management.server.port is the application port, so actuator endpoints then require authentication.
+     */
+    private boolean isManagementPort(HttpServletRequest request) {
+        Integer managementPort = environment.getProperty("local.management.port", Integer.class);
+        return managementPort != null && request.getLocalPort() == managementPort;
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
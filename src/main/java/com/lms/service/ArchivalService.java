@@ -0,0 +1,293 @@
+package com.lms.service;
+
+import com.lms.cache.CacheInvalidationPublisher;
+import com.lms.config.ArchivalProperties;
+import com.lms.dto.response.ArchivalStatusResponse;
+import com.lms.entity.Course;
+import com.lms.entity.Enrollment;
+import com.lms.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for archiving soft-deleted rows.
+ * <p>
+ * Rows soft-deleted longer than the retention period are moved into the partitioned {@code *_archive}
+ * tables by a single {@code DELETE ... RETURNING} feeding an {@code INSERT} per batch. Each batch is its own
+ * short transaction with a lock timeout, and skips rows locked by someone else, so the job never blocks
+ * application traffic and several nodes can run it at once. Enrollments go first; courses and users are only
+ * archived once no enrollment references them any more.
+ */
+@Slf4j
+@Service
+public class ArchivalService {
+
+    private static final List<String> BASE_COLUMNS = List.of("created_at", "created_by", "updated_at",
+            "updated_by", "deleted_at", "deleted_by", "is_deleted", "version");
+
+    private enum ArchiveTable {
+        ENROLLMENTS("enrollments", Enrollment.class, "",
+                List.of("id", "child_id", "course_id", "progress_percentage", "is_completed")),
+        COURSES("courses", Course.class,
+                "AND NOT EXISTS (SELECT 1 FROM enrollments e WHERE e.course_id = t.id)",
+                List.of("id", "title", "description", "category", "is_active")),
+        USERS("users", User.class,
+                "AND NOT EXISTS (SELECT 1 FROM enrollments e WHERE e.child_id = t.id)",
+                List.of("id", "username", "email", "password", "role_id", "is_active", "parent_id", "child_id"));
+
+        private final String table;
+        private final Class<?> entityClass;
+        private final String archivablePredicate;
+        private final List<String> columns;
+
+        ArchiveTable(String table, Class<?> entityClass, String archivablePredicate, List<String> ownColumns) {
+            this.table = table;
+            this.entityClass = entityClass;
+            this.archivablePredicate = archivablePredicate;
+            this.columns = new ArrayList<>(ownColumns);
+            this.columns.addAll(BASE_COLUMNS);
+        }
+
+        String archiveTable() {
+            return table + "_archive";
+        }
+
+        String columnList() {
+            return String.join(", ", columns);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchivalProperties properties;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Map<String, LongAdder> totalArchived = new ConcurrentHashMap<>();
+    private volatile Map<String, Long> lastRunArchived = Map.of();
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile String lastError;
+
+    public ArchivalService(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           ArchivalProperties properties,
+                           PartitionMaintenanceService partitionMaintenanceService,
+                           CacheInvalidationPublisher cacheInvalidationPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.partitionMaintenanceService = partitionMaintenanceService;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        for (ArchiveTable table : ArchiveTable.values()) {
+            totalArchived.put(table.table, new LongAdder());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePartitions() {
+        for (ArchiveTable table : ArchiveTable.values()) {
+            partitionMaintenanceService.ensureMonthlyPartitions(table.archiveTable(), YearMonth.now(),
+                    properties.getPartitionsAhead());
+        }
+    }
+
+    @Scheduled(cron = "${lms.archival.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            runArchival();
+        } catch (IllegalStateException ex) {
+            log.info("Skipping scheduled archival: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Archive every row soft-deleted longer than the retention period
+     *
+     * @return rows archived per table
+     * @throws IllegalStateException if a run is already in progress on this node
+     */
+    public Map<String, Long> runArchival() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Archival is already running");
+        }
+        try {
+            lastRunStartedAt = LocalDateTime.now();
+            lastError = null;
+            ensurePartitions();
+
+            LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+            log.info("Archiving rows soft-deleted before {}", cutoff);
+
+            Map<String, Long> archived = new LinkedHashMap<>();
+            for (ArchiveTable table : ArchiveTable.values()) {
+                archived.put(table.table, archiveTable(table, cutoff));
+            }
+
+            lastRunArchived = archived;
+            lastRunFinishedAt = LocalDateTime.now();
+            log.info("Archival finished: {}", archived);
+            return archived;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Move an archived row back into its live table and undelete it.
+     * Restoring a course or user also restores the enrollments deleted together with it.
+     *
+     * @param target the kind of row
+     * @param id the row ID
+     * @return number of rows restored, including enrollments
+     * @throws IllegalArgumentException if the row is not in the archive
+     * @throws IllegalStateException if the row references rows that are still archived
+     */
+    @Transactional
+    public int restore(SoftDeleteService.Target target, Long id) {
+        ArchiveTable table = ArchiveTable.valueOf(target.name());
+        log.info("Restoring archived {} {}", table.table, id);
+
+        List<LocalDateTime> deletedAt = jdbcTemplate.queryForList(
+                "SELECT deleted_at FROM " + table.archiveTable() + " WHERE id = ?", LocalDateTime.class, id);
+        if (deletedAt.isEmpty()) {
+            throw new IllegalArgumentException("Archived row not found: " + table.table + " " + id);
+        }
+
+        try {
+            int restored = moveBack(table, "id = ?", id);
+            switch (table) {
+                case COURSES -> restored += moveBack(ArchiveTable.ENROLLMENTS, "course_id = ? AND deleted_at = ?",
+                        id, deletedAt.get(0));
+                case USERS -> restored += moveBack(ArchiveTable.ENROLLMENTS, "child_id = ? AND deleted_at = ?",
+                        id, deletedAt.get(0));
+                case ENROLLMENTS -> { }
+            }
+            cacheInvalidationPublisher.publishAfterCommit(table.entityClass.getName(), id);
+            return restored;
+        } catch (DataIntegrityViolationException ex) {
+            throw new IllegalStateException("The " + table.table + " row " + id +
+                    " references rows that are still archived; restore those first", ex);
+        }
+    }
+
+    /**
+     * Get the archival progress on this node
+     *
+     * @return the archival status
+     */
+    public ArchivalStatusResponse getStatus() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        Map<String, Long> pending = new LinkedHashMap<>();
+        for (ArchiveTable table : ArchiveTable.values()) {
+            pending.put(table.table, jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM " + table.table + " t WHERE t.is_deleted = true AND t.deleted_at < ?",
+                    Long.class, cutoff));
+        }
+
+        return ArchivalStatusResponse.builder()
+                .enabled(properties.isEnabled())
+                .running(running.get())
+                .retentionDays(properties.getRetention().toDays())
+                .lastRunStartedAt(lastRunStartedAt)
+                .lastRunFinishedAt(lastRunFinishedAt)
+                .lastError(lastError)
+                .lastRunArchived(lastRunArchived)
+                .totalArchived(totalArchived.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum())))
+                .pending(pending)
+                .build();
+    }
+
+    private long archiveTable(ArchiveTable table, LocalDateTime cutoff) {
+        String sql = "WITH batch AS (" +
+                "SELECT t.id FROM " + table.table + " t " +
+                "WHERE t.is_deleted = true AND t.deleted_at < ? " + table.archivablePredicate + " " +
+                "ORDER BY t.deleted_at LIMIT ? FOR UPDATE SKIP LOCKED" +
+                "), moved AS (" +
+                "DELETE FROM " + table.table + " t USING batch WHERE t.id = batch.id " +
+                "RETURNING " + table.columns.stream().map(column -> "t." + column).collect(Collectors.joining(", ")) +
+                ") " +
+                "INSERT INTO " + table.archiveTable() + " (" + table.columnList() + ", archived_at) " +
+                "SELECT " + table.columnList() + ", now() FROM moved RETURNING id";
+        String lockTimeout = "SET LOCAL lock_timeout = '" + properties.getLockTimeout().toMillis() + "ms'";
+
+        long archived = 0;
+        for (int batch = 1; batch <= properties.getMaxBatchesPerRun(); batch++) {
+            List<Long> ids;
+            try {
+                ids = transactionTemplate.execute(status -> {
+                    jdbcTemplate.execute(lockTimeout);
+                    List<Long> moved = jdbcTemplate.queryForList(sql, Long.class, cutoff, properties.getBatchSize());
+                    moved.forEach(id -> cacheInvalidationPublisher.publishAfterCommit(table.entityClass.getName(), id));
+                    return moved;
+                });
+            } catch (DataAccessException ex) {
+                // Most likely a lock timeout; leave the rest of this table for the next run
+                lastError = table.table + ": " + ex.getMostSpecificCause().getMessage();
+                log.warn("Archival of {} stopped after {} rows: {}", table.table, archived, lastError);
+                break;
+            }
+
+            int moved = ids != null ? ids.size() : 0;
+            archived += moved;
+            totalArchived.get(table.table).add(moved);
+            log.debug("Archived batch {} of {}: {} rows", batch, table.table, moved);
+            if (moved < properties.getBatchSize()) {
+                break;
+            }
+            pause();
+        }
+        return archived;
+    }
+
+    private int moveBack(ArchiveTable table, String condition, Object... args) {
+        String restoredColumns = table.columns.stream()
+                .map(column -> switch (column) {
+                    case "is_deleted" -> "false";
+                    case "deleted_at", "deleted_by" -> "NULL";
+                    case "version" -> "version + 1";
+                    default -> column;
+                })
+                .collect(Collectors.joining(", "));
+        String sql = "WITH moved AS (" +
+                "DELETE FROM " + table.archiveTable() + " WHERE " + condition + " RETURNING " + table.columnList() +
+                ") " +
+                "INSERT INTO " + table.table + " (" + table.columnList() + ") " +
+                "SELECT " + restoredColumns + " FROM moved";
+        return jdbcTemplate.update(sql, args);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.getPauseBetweenBatches().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while archiving", ex);
+        }
+    }
+}
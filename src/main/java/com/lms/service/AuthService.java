@@ -1,20 +1,24 @@
 package com.lms.service;
 
+import com.lms.dto.projection.UserAccountRow;
 import com.lms.dto.request.LoginRequest;
 import com.lms.dto.request.RegisterRequest;
 import com.lms.dto.response.AuthResponse;
 import com.lms.entity.Role;
 import com.lms.entity.User;
+import com.lms.metrics.LoginEvent;
+import com.lms.metrics.RequestStatistics;
 import com.lms.repository.UserRepository;
 import com.lms.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -27,36 +31,29 @@ import java.util.Optional;
 public class AuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+    private static final String USERNAME_CONSTRAINT = "uk_users_username";
+    private static final String EMAIL_CONSTRAINT = "uk_users_email";
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
+    private final RoleRegistry roleRegistry;
     private final JwtUtil jwtUtil;
 
 
     /**
      * Register a new user.
+     * A single insert: the unique constraints on username and email decide duplicates, so there is no
+     * check-then-insert race and no existence query. Not transactional, so the connection is not held
+     * while the password is hashed.
      * 
      * @param request the registration request
      * @return AuthResponse with token and user details
      * @throws IllegalArgumentException if username or email already exists
      */
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         logger.info("Attempting to register new user with username: {}", request.getUsername());
 
-        // Check if username already exists
-        if (userService.existsByUsername(request.getUsername())) {
-            logger.warn("Registration failed: Username already exists - {}", request.getUsername());
-            throw new IllegalArgumentException("Username already exists");
-        }
-
-        // Check if email already exists
-        if (userService.existsByEmail(request.getEmail())) {
-            logger.warn("Registration failed: Email already exists - {}", request.getEmail());
-            throw new IllegalArgumentException("Email already exists");
-        }
-
         // Validate role
         if (request.getRole() == null) {
             logger.warn("Registration failed: Role is required");
@@ -68,50 +65,61 @@ public class AuthService {
                 .username(request.getUsername())
                 .email(request.getEmail())
                 .password(passwordEncoder.encode(request.getPassword()))
-//                .role(request.getRole())
+                .roles(roleRegistry.reference(request.getRole()))
                 .isActive(true)
                 .build();
         String token =jwtUtil.generateToken(request.getUsername());
 
-        user = userRepository.save(user);
+        try {
+            user = userRepository.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            String constraint = violatedConstraint(ex);
+            if (USERNAME_CONSTRAINT.equals(constraint)) {
+                logger.warn("Registration failed: Username already exists - {}", request.getUsername());
+                throw new IllegalArgumentException("Username already exists");
+            }
+            if (EMAIL_CONSTRAINT.equals(constraint)) {
+                logger.warn("Registration failed: Email already exists - {}", request.getEmail());
+                throw new IllegalArgumentException("Email already exists");
+            }
+            throw ex;
+        }
         logger.info("User registered successfully with ID: {}", user.getId());
 
         return AuthResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
                 .email(user.getEmail())
-//                .role(user.getRole())
+                .role(request.getRole())
                 .token(token)
                 .build();
     }
 
     /**
      * Authenticate user and generate JWT token.
+     * Emits a {@link LoginEvent} when JFR has it enabled.
+     * Not transactional: the password check runs without a connection, and each lookup
+     * holds one only for its own statement.
      * 
      * @param request the login request
      * @return AuthResponse with token and user details
      * @throws BadCredentialsException if credentials are invalid
      */
-    @Transactional
     public AuthResponse login(LoginRequest request) {
         logger.info("Attempting to login user: {}", request.getUsernameOrEmail());
 
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        RequestStatistics statistics = RequestStatistics.begin(false);
+        String outcome = "error";
         try {
             // Authenticate user
-            Authentication auth = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            request.getUsernameOrEmail(),
-                            request.getPassword()
-                    )
-            );
+            Authentication auth = authenticate(request, statistics, event);
 
             // Extract authenticated user details
 
-            Optional<User> user = userRepository.findByUsername(request.getUsernameOrEmail());
+            Optional<UserAccountRow> user = userService.findAccount(request.getUsernameOrEmail());
             if (user.isEmpty()) {
-                user = userRepository.findByEmail(request.getUsernameOrEmail());
-            }
-            if (!user.isPresent()){
                 logger.warn("Login failed: User not found - {}", request.getUsernameOrEmail());
                 throw new BadCredentialsException("Invalid username/email or password");
             }
@@ -121,31 +129,74 @@ public class AuthService {
 
             logger.info("User logged in successfully: {}", request.getUsernameOrEmail());
 
+            outcome = "success";
             return AuthResponse.builder()
                     .id(user.get().getId())
                     .username(user.get().getUsername())
                     .email(user.get().getEmail())
-
-                    // adjust if user.getRoles() is a list
-                    .role(user.get().getRoles().getRole())
-
+                    .role(user.get().getRole())
                     .token(jwtToken)
                     .build();
 
         } catch (BadCredentialsException e) {
+            outcome = "bad_credentials";
             logger.warn("Login failed: Invalid credentials for user: {}", request.getUsernameOrEmail());
             throw new BadCredentialsException("Invalid username/email or password");
         } catch (LockedException e) {
+            outcome = "locked";
             logger.warn("User account is locked: {}", request.getUsernameOrEmail());
             throw new LockedException("Your account is locked");
         } catch (DisabledException e) {
+            outcome = "disabled";
             logger.warn("User account is disabled: {}", request.getUsernameOrEmail());
             throw new DisabledException("Your account is disabled");
         } catch (CredentialsExpiredException e) {
+            outcome = "credentials_expired";
             logger.warn("Credentials expired for user: {}", request.getUsernameOrEmail());
             throw new CredentialsExpiredException("Your password has expired");
+        } finally {
+            RequestStatistics.end();
+            event.end();
+            if (event.shouldCommit()) {
+                event.outcome = outcome;
+                event.database = statistics.getJdbcNanos();
+                event.statements = statistics.getStatements();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Run the authentication manager, recording its non-JDBC time (the BCrypt check) on the login event.
+     */
+    private Authentication authenticate(LoginRequest request, RequestStatistics statistics, LoginEvent event) {
+        long start = System.nanoTime();
+        long jdbcBefore = statistics.getJdbcNanos();
+        try {
+            return authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getUsernameOrEmail(),
+                            request.getPassword()
+                    )
+            );
+        } finally {
+            event.passwordCheck = System.nanoTime() - start - (statistics.getJdbcNanos() - jdbcBefore);
         }
     }
 
-}
 
+    /**
+     * Get the name of the constraint an insert violated
+     * 
+     * @param ex the translated exception
+     * @return the constraint name, or null if the driver did not report one
+     */
+    private static String violatedConstraint(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.lms.service;
+
+import com.lms.cache.CacheInvalidationHandler;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Service class for the Hibernate second-level cache.
+ * Exposes per-region statistics and evicts entries changed on other nodes.
+ */
+@Slf4j
+@Service
+public class CacheService implements CacheInvalidationHandler {
+
+    private final SessionFactory sessionFactory;
+
+    public CacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * Get statistics for every second-level cache and query cache region
+     *
+     * @return region name mapped to its hit/miss/put counts and, where the provider reports it, size
+     */
+    public Map<String, Map<String, Long>> getRegionStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Map<String, Long>> regions = new LinkedHashMap<>();
+
+        for (String region : new TreeSet<>(List.of(statistics.getSecondLevelCacheRegionNames()))) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.put(region, toMap(regionStatistics));
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Evict an entity, its cached collections and all cached query results.
+     * Entities that are neither cached nor own a cached collection are ignored.
+     *
+     * @param entityName the fully qualified entity class name
+     * @param id the entity identifier
+     */
+    @Override
+    public void evict(String entityName, String id) {
+        EntityPersister persister = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .findEntityDescriptor(entityName);
+        if (persister == null) {
+            log.debug("Ignoring invalidation for unknown entity {}", entityName);
+            return;
+        }
+        List<String> cachedCollections = new ArrayList<>();
+        persister.forEachAttributeMapping(attribute -> {
+            if (attribute instanceof PluralAttributeMapping collection && collection.getCollectionDescriptor().hasCache()) {
+                cachedCollections.add(collection.getCollectionDescriptor().getRole());
+            }
+        });
+        if (!persister.canWriteToCache() && cachedCollections.isEmpty()) {
+            // Cached queries only read cached entities, so they cannot hold this one either
+            log.debug("Ignoring invalidation for uncached entity {}", entityName);
+            return;
+        }
+
+        Object identifier = persister.getIdentifierMapping().getJavaType().fromString(id);
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(entityName, identifier);
+        for (String role : cachedCollections) {
+            cache.evictCollectionData(role, identifier);
+        }
+        // Update timestamps are local to this node, so cached queries would not notice the change
+        cache.evictQueryRegions();
+        log.debug("Evicted {}#{} from the second-level cache", entityName, id);
+    }
+
+    /**
+     * Evict every second-level cache and query cache region
+     */
+    @Override
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    private Map<String, Long> toMap(CacheRegionStatistics statistics) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        values.put("hits", statistics.getHitCount());
+        values.put("misses", statistics.getMissCount());
+        values.put("puts", statistics.getPutCount());
+        // JCache regions do not report their size; Hibernate returns a negative sentinel then
+        if (statistics.getElementCountInMemory() >= 0) {
+            values.put("elementsInMemory", statistics.getElementCountInMemory());
+        }
+        return values;
+    }
+}
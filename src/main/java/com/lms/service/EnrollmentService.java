@@ -0,0 +1,151 @@
+package com.lms.service;
+
+import com.lms.dto.projection.EnrollmentProgressRow;
+import com.lms.dto.response.EnrollmentProgressResponse;
+import com.lms.entity.Enrollment;
+import com.lms.repository.EnrollmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Service class for enrollment progress updates.
+ * Updates are conditional on the enrollment version, so concurrent writers never
+ * overwrite each other and no row lock is held beyond a single statement.
+ * Every committed change is also appended to the progress history.
+ */
+@Slf4j
+@Service
+public class EnrollmentService {
+
+    private static final int MAX_PROGRESS = 100;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MS = 5;
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final ProgressHistoryService progressHistoryService;
+    private final TransactionTemplate transactionTemplate;
+
+    public EnrollmentService(EnrollmentRepository enrollmentRepository,
+                             ProgressHistoryService progressHistoryService,
+                             PlatformTransactionManager transactionManager) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.progressHistoryService = progressHistoryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Set the progress of an enrollment
+     *
+     * @param id the enrollment ID
+     * @param progress the new progress percentage
+     * @param expectedVersion the version the caller last read
+     * @return the updated progress
+     * @throws IllegalArgumentException if the enrollment does not exist
+     * @throws ObjectOptimisticLockingFailureException if the enrollment was modified concurrently
+     */
+    @Transactional
+    public EnrollmentProgressResponse updateProgress(Long id, int progress, Long expectedVersion) {
+        log.info("Updating progress of enrollment {} to {} (version {})", id, progress, expectedVersion);
+
+        boolean completed = progress >= MAX_PROGRESS;
+        if (enrollmentRepository.updateProgressIfVersion(id, progress, completed, expectedVersion) == 0) {
+            throw conflictOrNotFound(id);
+        }
+        progressHistoryService.record(id, progress, completed);
+
+        return toResponse(id, progress, completed, expectedVersion + 1);
+    }
+
+    /**
+     * Add to the progress of an enrollment.
+     * Increments are commutative, so a version conflict is retried a bounded number of times
+     * against the latest state instead of being reported to the caller.
+     *
+     * @param id the enrollment ID
+     * @param delta the percentage points to add
+     * @return the updated progress
+     * @throws IllegalArgumentException if the enrollment does not exist
+     * @throws ObjectOptimisticLockingFailureException if every attempt conflicted
+     */
+    public EnrollmentProgressResponse incrementProgress(Long id, int delta) {
+        log.info("Incrementing progress of enrollment {} by {}", id, delta);
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            EnrollmentProgressResponse result = transactionTemplate.execute(status -> tryIncrement(id, delta));
+            if (result != null) {
+                return result;
+            }
+            log.debug("Version conflict incrementing enrollment {} (attempt {}/{})", id, attempt, MAX_ATTEMPTS);
+            backoff(attempt);
+        }
+
+        log.warn("Giving up incrementing enrollment {} after {} attempts", id, MAX_ATTEMPTS);
+        throw new ObjectOptimisticLockingFailureException(Enrollment.class, id);
+    }
+
+    private EnrollmentProgressResponse tryIncrement(Long id, int delta) {
+        EnrollmentProgressRow current = enrollmentRepository.findProgressById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Enrollment not found: " + id));
+
+        int progress = Math.min(MAX_PROGRESS, current.getProgressPercentage() + delta);
+        boolean completed = progress >= MAX_PROGRESS;
+        if (enrollmentRepository.updateProgressIfVersion(id, progress, completed, current.getVersion()) == 0) {
+            return null;
+        }
+        progressHistoryService.record(id, progress, completed);
+
+        return toResponse(id, progress, completed, current.getVersion() + 1);
+    }
+
+    /**
+     * Check whether the authenticated user is the enrolled child or a parent of the child's family
+     *
+     * @param authentication the current authentication
+     * @param id the enrollment ID
+     * @return true if the enrollment belongs to the authenticated user
+     */
+    @Transactional(readOnly = true)
+    public boolean isOwnEnrollment(Authentication authentication, Long id) {
+        if (authentication == null || id == null) {
+            return false;
+        }
+        return enrollmentRepository.isOwnedBy(id, authentication.getName());
+    }
+
+    private RuntimeException conflictOrNotFound(Long id) {
+        Optional<EnrollmentProgressRow> current = enrollmentRepository.findProgressById(id);
+        if (current.isEmpty()) {
+            log.warn("Enrollment not found: {}", id);
+            return new IllegalArgumentException("Enrollment not found: " + id);
+        }
+        log.warn("Enrollment {} was modified concurrently (current version {})", id, current.get().getVersion());
+        return new ObjectOptimisticLockingFailureException(Enrollment.class, id);
+    }
+
+    private void backoff(int attempt) {
+        long maxDelay = BASE_BACKOFF_MS << attempt;
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay / 2, maxDelay + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying enrollment update", ex);
+        }
+    }
+
+    private EnrollmentProgressResponse toResponse(Long id, int progress, boolean completed, Long version) {
+        return EnrollmentProgressResponse.builder()
+                .enrollmentId(id)
+                .progressPercentage(progress)
+                .completed(completed)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.lms.service;
+
+import com.lms.dto.projection.ParentOverviewRow;
+import com.lms.dto.response.ChildProgressSummary;
+import com.lms.dto.response.ParentOverviewResponse;
+import com.lms.entity.ParentType;
+import com.lms.repository.ParentRepository;
+import com.lms.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service class for parent-facing operations.
+ * Builds family overviews from a single aggregated query.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParentService {
+
+    private final ParentRepository parentRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Get the family overview for a parent
+     *
+     * @param parentId the parent ID
+     * @return Optional containing the overview if the parent exists
+     */
+    @Transactional(readOnly = true)
+    public Optional<ParentOverviewResponse> getFamilyOverview(Long parentId) {
+        log.debug("Fetching family overview for parent: {}", parentId);
+
+        List<ParentOverviewRow> rows = parentRepository.findFamilyOverview(parentId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ParentOverviewRow first = rows.get(0);
+        List<ChildProgressSummary> children = new ArrayList<>(rows.size());
+        for (ParentOverviewRow row : rows) {
+            if (row.getChildId() == null) {
+                continue;
+            }
+            long total = row.getTotalEnrollments();
+            long completed = row.getCompletedEnrollments();
+            children.add(ChildProgressSummary.builder()
+                    .childId(row.getChildId())
+                    .name(row.getChildName())
+                    .userName(row.getChildUserName())
+                    .caseNumber(row.getCaseNumber())
+                    .totalEnrollments(total)
+                    .completedEnrollments(completed)
+                    .inProgressEnrollments(total - completed)
+                    .averageProgress(row.getAverageProgress())
+                    .build());
+        }
+
+        return Optional.of(ParentOverviewResponse.builder()
+                .parentId(first.getParentId())
+                .name(first.getParentName())
+                .parentType(first.getParentType() != null ? ParentType.valueOf(first.getParentType()) : null)
+                .children(children)
+                .build());
+    }
+
+    /**
+     * Check whether the authenticated user is the given parent
+     *
+     * @param authentication the current authentication
+     * @param parentId the parent ID
+     * @return true if the authenticated user is linked to the parent
+     */
+    @Transactional(readOnly = true)
+    public boolean isOwnFamily(Authentication authentication, Long parentId) {
+        if (authentication == null || parentId == null) {
+            return false;
+        }
+        return userRepository.isLinkedToParent(authentication.getName(), parentId);
+    }
+}
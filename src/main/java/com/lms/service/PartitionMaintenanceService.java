@@ -0,0 +1,89 @@
+package com.lms.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Service class for range-partitioned tables.
+ * Creates monthly partitions named {@code <table>_pYYYYMM} ahead of the rows that will need them,
+ * and drops them again once they fall out of retention.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final Pattern MONTH_SUFFIX = Pattern.compile("\\d{6}");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Make sure monthly partitions exist from the given month on
+     *
+     * @param parentTable the partitioned table, partitioned by a timestamp range
+     * @param from the first month to cover
+     * @param monthsAhead the number of months after {@code from} to cover as well
+     */
+    public void ensureMonthlyPartitions(String parentTable, YearMonth from, int monthsAhead) {
+        validateTableName(parentTable);
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = from.plusMonths(i);
+            String partition = parentTable + "_p" + month.format(SUFFIX);
+            String sql = "CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + parentTable +
+                    " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+            try {
+                jdbcTemplate.execute(sql);
+            } catch (DataAccessException ex) {
+                // Another node may have created it concurrently; anything else shows up on the next run
+                log.warn("Could not create partition {}: {}", partition, ex.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drop the monthly partitions of months before the given one.
+     * Dropping a partition is a catalog change, far cheaper than deleting its rows.
+     *
+     * @param parentTable the partitioned table
+     * @param before the first month to keep
+     * @return names of the dropped partitions
+     */
+    public List<String> dropMonthlyPartitionsBefore(String parentTable, YearMonth before) {
+        validateTableName(parentTable);
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ?", String.class, parentTable);
+
+        String prefix = parentTable + "_p";
+        List<String> dropped = new ArrayList<>();
+        for (String partition : partitions) {
+            String suffix = partition.startsWith(prefix) ? partition.substring(prefix.length()) : "";
+            if (!MONTH_SUFFIX.matcher(suffix).matches() || !YearMonth.parse(suffix, SUFFIX).isBefore(before)) {
+                continue;
+            }
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+            dropped.add(partition);
+            log.info("Dropped partition {}", partition);
+        }
+        return dropped;
+    }
+
+    private void validateTableName(String table) {
+        if (!TABLE_NAME.matcher(table).matches()) {
+            throw new IllegalArgumentException("Invalid table name: " + table);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.lms.service;
+
+import com.lms.config.ProgressHistoryProperties;
+import com.lms.dto.response.ProgressHistoryBucket;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service class for the enrollment progress history.
+ * <p>
+ * Progress changes are buffered in memory once their transaction commits and written by a scheduled
+ * batch insert, so the progress path pays for a queue offer rather than an extra INSERT. Changes still
+ * buffered when the process dies are lost; the enrollment itself always holds the latest progress.
+ */
+@Slf4j
+@Service
+public class ProgressHistoryService {
+
+    private static final String TABLE = "enrollment_progress_history";
+
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE +
+            " (enrollment_id, progress_percentage, is_completed, recorded_at) VALUES (?, ?, ?, ?)";
+
+    private record Change(Long enrollmentId, int progress, boolean completed, LocalDateTime recordedAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProgressHistoryProperties properties;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+    private final BlockingQueue<Change> buffer;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public ProgressHistoryService(JdbcTemplate jdbcTemplate,
+                                  ProgressHistoryProperties properties,
+                                  PartitionMaintenanceService partitionMaintenanceService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.partitionMaintenanceService = partitionMaintenanceService;
+        this.buffer = new LinkedBlockingQueue<>(properties.getBufferCapacity());
+    }
+
+    /**
+     * Record a progress change once the current transaction commits
+     *
+     * @param enrollmentId the enrollment ID
+     * @param progress the new progress percentage
+     * @param completed whether the enrollment is completed
+     */
+    public void record(Long enrollmentId, int progress, boolean completed) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(new Change(enrollmentId, progress, completed, LocalDateTime.now()));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(new Change(enrollmentId, progress, completed, LocalDateTime.now()));
+            }
+        });
+    }
+
+    /**
+     * Write buffered changes in batches
+     */
+    @Scheduled(fixedDelayString = "${lms.progress-history.flush-interval:PT1S}")
+    public void flush() {
+        List<Change> batch = new ArrayList<>(properties.getBatchSize());
+        while (buffer.drainTo(batch, properties.getBatchSize()) > 0) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, change) -> {
+                    statement.setLong(1, change.enrollmentId());
+                    statement.setInt(2, change.progress());
+                    statement.setBoolean(3, change.completed());
+                    statement.setTimestamp(4, Timestamp.valueOf(change.recordedAt()));
+                });
+                written.add(batch.size());
+            } catch (DataAccessException ex) {
+                dropped.add(batch.size());
+                log.warn("Failed to write {} progress history rows: {}", batch.size(),
+                        ex.getMostSpecificCause().getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Create upcoming partitions and drop those past retention
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${lms.progress-history.maintenance-cron:0 0 2 * * *}")
+    public void maintainPartitions() {
+        YearMonth now = YearMonth.now();
+        partitionMaintenanceService.ensureMonthlyPartitions(TABLE, now, properties.getPartitionsAhead());
+        partitionMaintenanceService.dropMonthlyPartitionsBefore(TABLE, now.minusMonths(properties.getRetentionMonths()));
+    }
+
+    /**
+     * Get the progress history of an enrollment, downsampled into equal time buckets.
+     * Empty buckets are left out.
+     *
+     * @param enrollmentId the enrollment ID
+     * @param from start of the range (inclusive)
+     * @param to end of the range (exclusive)
+     * @param buckets number of buckets to split the range into
+     * @return non-empty buckets in time order
+     */
+    public List<ProgressHistoryBucket> getHistory(Long enrollmentId, LocalDateTime from, LocalDateTime to, int buckets) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        Timestamp start = Timestamp.valueOf(from);
+        Timestamp end = Timestamp.valueOf(to);
+        Duration width = Duration.between(from, to).dividedBy(buckets);
+
+        // recorded_at bounds let the planner prune partitions outside the range
+        return jdbcTemplate.query(
+                "SELECT width_bucket(EXTRACT(EPOCH FROM recorded_at), EXTRACT(EPOCH FROM CAST(? AS timestamp)), " +
+                "EXTRACT(EPOCH FROM CAST(? AS timestamp)), ?) AS bucket, " +
+                "MIN(progress_percentage) AS min_progress, MAX(progress_percentage) AS max_progress, " +
+                "(ARRAY_AGG(progress_percentage ORDER BY recorded_at DESC))[1] AS last_progress, " +
+                "(ARRAY_AGG(is_completed ORDER BY recorded_at DESC))[1] AS completed, " +
+                "COUNT(*) AS samples " +
+                "FROM " + TABLE + " " +
+                "WHERE enrollment_id = ? AND recorded_at >= ? AND recorded_at < ? " +
+                "GROUP BY bucket ORDER BY bucket",
+                (rs, rowNum) -> {
+                    LocalDateTime bucketStart = from.plus(width.multipliedBy(rs.getInt("bucket") - 1L));
+                    return ProgressHistoryBucket.builder()
+                            .bucketStart(bucketStart)
+                            .bucketEnd(bucketStart.plus(width))
+                            .minProgress(rs.getInt("min_progress"))
+                            .maxProgress(rs.getInt("max_progress"))
+                            .lastProgress(rs.getInt("last_progress"))
+                            .completed(rs.getBoolean("completed"))
+                            .samples(rs.getLong("samples"))
+                            .build();
+                },
+                start, end, buckets, enrollmentId, start, end);
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void enqueue(Change change) {
+        if (!buffer.offer(change)) {
+            dropped.increment();
+            log.warn("Progress history buffer full, dropped change of enrollment {}", change.enrollmentId());
+        }
+    }
+}
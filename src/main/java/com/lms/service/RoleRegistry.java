@@ -0,0 +1,153 @@
+package com.lms.service;
+
+import com.lms.cache.CacheInvalidationHandler;
+import com.lms.entity.Role;
+import com.lms.entity.Roles;
+import com.lms.entity.User;
+import com.lms.repository.RoleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory map between role rows and the {@link Role} enum.
+ * The roles table holds a handful of rows that almost never change, so {@code User.roles} stays an
+ * uninitialized proxy and callers resolve the role from the proxy's identifier here, without a query.
+ * Loaded on first use and dropped on local role changes (after commit) and on invalidations from other nodes.
+ */
+@Slf4j
+@Service
+public class RoleRegistry implements CacheInvalidationHandler {
+
+    private final RoleRepository roleRepository;
+
+    private volatile Snapshot snapshot;
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    private record Snapshot(Map<Long, Role> roleById, Map<Role, Long> idByRole) {
+    }
+
+    /**
+     * Get a user's role without initializing the user's roles association
+     *
+     * @param user the user
+     * @return the role
+     * @throws IllegalStateException if the user's role is not in the roles table
+     */
+    public Role roleOf(User user) {
+        return roleOf(user.getRoles().getId());
+    }
+
+    /**
+     * Get the role stored in a roles row
+     *
+     * @param roleId the roles row ID
+     * @return the role
+     * @throws IllegalStateException if there is no such row
+     */
+    public Role roleOf(Long roleId) {
+        Role role = current().roleById().get(roleId);
+        if (role == null) {
+            // A row added since the last load; reload once before giving up
+            role = reload().roleById().get(roleId);
+        }
+        if (role == null) {
+            throw new IllegalStateException("Unknown role ID: " + roleId);
+        }
+        return role;
+    }
+
+    /**
+     * Get a reference to a role's row, for setting {@code User.roles} without loading it
+     *
+     * @param role the role
+     * @return an uninitialized reference to the row
+     * @throws IllegalArgumentException if the role has no row
+     */
+    public Roles reference(Role role) {
+        return roleRepository.getReferenceById(idOf(role));
+    }
+
+    /**
+     * Get the ID of a role's row, for writing {@code users.role_id} directly
+     *
+     * @param role the role
+     * @return the roles row ID
+     * @throws IllegalArgumentException if the role has no row
+     */
+    public Long idOf(Role role) {
+        Long id = current().idByRole().get(role);
+        if (id == null) {
+            id = reload().idByRole().get(role);
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Role not found: " + role);
+        }
+        return id;
+    }
+
+    /**
+     * Check whether a role has a row
+     *
+     * @param role the role
+     * @return true if the role is in the roles table
+     */
+    public boolean contains(Role role) {
+        return role != null && current().idByRole().containsKey(role);
+    }
+
+    /**
+     * Drop the map once the current transaction commits, or now without a transaction
+     */
+    public void evictAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll();
+            }
+        });
+    }
+
+    @Override
+    public void evict(String entityName, String id) {
+        if (Roles.class.getName().equals(entityName)) {
+            evictAll();
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        snapshot = null;
+        log.debug("Role registry cleared");
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private Snapshot reload() {
+        Map<Long, Role> roleById = new HashMap<>();
+        Map<Role, Long> idByRole = new EnumMap<>(Role.class);
+        for (Roles roles : roleRepository.findAll()) {
+            roleById.put(roles.getId(), roles.getRole());
+            idByRole.put(roles.getRole(), roles.getId());
+        }
+        Snapshot loaded = new Snapshot(Map.copyOf(roleById), idByRole);
+        snapshot = loaded;
+        log.debug("Role registry loaded {} roles", roleById.size());
+        return loaded;
+    }
+}
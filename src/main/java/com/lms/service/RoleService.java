@@ -1,18 +1,27 @@
 package com.lms.service;
 
+import com.lms.dto.response.PermissionResponse;
+import com.lms.dto.response.RoleResponse;
+import com.lms.entity.Permissions;
+import com.lms.entity.Role;
 import com.lms.entity.Roles;
 import com.lms.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
  * Service class for role management operations.
  * Handles CRUD operations and business logic for roles.
+ * Roles leave the service as {@link RoleResponse}s built inside the transaction, with permissions fetched
+ * in the same statement as the roles, so nothing is lazily loaded while the response is written.
  */
 @Slf4j
 @Service
@@ -20,6 +29,7 @@ import java.util.Optional;
 public class RoleService {
 
     private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
     /**
      * Get all roles
@@ -27,9 +37,11 @@ public class RoleService {
      * @return list of all roles
      */
     @Transactional(readOnly = true)
-    public List<Roles> getAllRoles() {
+    public List<RoleResponse> getAllRoles() {
         log.debug("Fetching all roles");
-        return roleRepository.findAll();
+        return roleRepository.findAllWithPermissions().stream()
+                .map(RoleService::toResponse)
+                .toList();
     }
 
     /**
@@ -39,9 +51,9 @@ public class RoleService {
      * @return Optional containing the role if found
      */
     @Transactional(readOnly = true)
-    public Optional<Roles> getRoleById(Long id) {
+    public Optional<RoleResponse> getRoleById(Long id) {
         log.debug("Fetching role by ID: {}", id);
-        return roleRepository.findById(id);
+        return roleRepository.findWithPermissionsById(id).map(RoleService::toResponse);
     }
 
     /**
@@ -51,9 +63,15 @@ public class RoleService {
      * @return Optional containing the role if found
      */
     @Transactional(readOnly = true)
-    public Optional<Roles> getRoleByName(String name) {
+    public Optional<RoleResponse> getRoleByName(String name) {
         log.debug("Fetching role by name: {}", name);
-        return roleRepository.findByRole(name);
+        Role role;
+        try {
+            role = Role.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        return roleRepository.findWithPermissionsByRole(role).map(RoleService::toResponse);
     }
 
     /**
@@ -75,25 +93,30 @@ public class RoleService {
      * @return the created role
      */
     @Transactional
-    public Roles createRole(Roles role) {
+    public RoleResponse createRole(Roles role) {
         log.info("Creating new role: {}", role.getRole().name());
         
         if (roleRepository.existsByRole(role.getRole().name())) {
             throw new IllegalArgumentException("Role already exists: " + role.getRole().name());
         }
         
-        return roleRepository.save(role);
+        Roles created = roleRepository.save(role);
+        roleRegistry.evictAfterCommit();
+        return toResponse(created);
     }
 
     /**
-     * Update an existing role
+     * Update an existing role.
+     * If the request carries a version it must match the stored one; the version column
+     * also guards the final UPDATE against writers that commit between load and flush.
      * 
      * @param id the role ID to update
      * @param role the updated role data
      * @return the updated role
+     * @throws ObjectOptimisticLockingFailureException if the role was modified concurrently
      */
     @Transactional
-    public Roles updateRole(Long id, Roles role) {
+    public RoleResponse updateRole(Long id, Roles role) {
         log.info("Updating role: {}", id);
         
         Roles existingRole = roleRepository.findById(id)
@@ -101,11 +124,19 @@ public class RoleService {
                     log.warn("Role not found: {}", id);
                     return new IllegalArgumentException("Role not found: " + id);
                 });
+
+        if (role.getVersion() != null && !role.getVersion().equals(existingRole.getVersion())) {
+            log.warn("Role {} was modified concurrently (expected version {}, found {})",
+                    id, role.getVersion(), existingRole.getVersion());
+            throw new ObjectOptimisticLockingFailureException(Roles.class, id);
+        }
         
         existingRole.setRole(role.getRole());
         existingRole.setDescription(role.getDescription());
         
-        return roleRepository.save(existingRole);
+        Roles updated = roleRepository.saveAndFlush(existingRole);
+        roleRegistry.evictAfterCommit();
+        return toResponse(updated);
     }
 
     /**
@@ -123,7 +154,26 @@ public class RoleService {
         }
         
         roleRepository.deleteById(id);
+        roleRegistry.evictAfterCommit();
         log.debug("Role deleted successfully: {}", id);
     }
-}
 
+    private static RoleResponse toResponse(Roles role) {
+        List<PermissionResponse> permissions = role.getPermissions() == null ? List.of()
+                : role.getPermissions().stream()
+                        .sorted(Comparator.comparing(Permissions::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                        .map(permission -> PermissionResponse.builder()
+                                .id(permission.getId())
+                                .name(permission.getName())
+                                .description(permission.getDescription())
+                                .build())
+                        .toList();
+        return RoleResponse.builder()
+                .id(role.getId())
+                .role(role.getRole())
+                .description(role.getDescription())
+                .version(role.getVersion())
+                .permissions(permissions)
+                .build();
+    }
+}
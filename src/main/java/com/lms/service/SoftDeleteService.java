@@ -0,0 +1,168 @@
+package com.lms.service;
+
+import com.lms.cache.CacheInvalidationPublisher;
+import com.lms.dto.response.DeletedRecordResponse;
+import com.lms.entity.BaseEntity;
+import com.lms.entity.Course;
+import com.lms.entity.User;
+import com.lms.repository.CourseRepository;
+import com.lms.repository.EnrollmentRepository;
+import com.lms.repository.SoftDeleteRepository;
+import com.lms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Service class for soft deletes.
+ * Deletes and restores run as bulk updates; deleting a course or user also deletes its enrollments,
+ * and restoring it brings back the enrollments deleted in the same operation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SoftDeleteService {
+
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Kinds of rows that can be soft-deleted through the admin API.
+     */
+    public enum Target {
+        COURSES,
+        USERS,
+        ENROLLMENTS
+    }
+
+    /**
+     * Soft delete a row
+     *
+     * @param target the kind of row
+     * @param id the row ID
+     * @param deletedBy who deletes the row
+     * @throws IllegalArgumentException if no live row with the ID exists
+     */
+    @Transactional
+    public void delete(Target target, Long id, String deletedBy) {
+        log.info("Soft deleting {} {} by {}", target, id, deletedBy);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = List.of(id);
+        if (repository(target).softDeleteByIds(ids, now, deletedBy) == 0) {
+            throw new IllegalArgumentException(label(target) + " not found: " + id);
+        }
+
+        switch (target) {
+            case COURSES -> {
+                enrollmentRepository.softDeleteByCourseIds(ids, now, deletedBy);
+                cacheInvalidationPublisher.publishAfterCommit(Course.class.getName(), id);
+            }
+            case USERS -> {
+                enrollmentRepository.softDeleteByChildIds(ids, now, deletedBy);
+                cacheInvalidationPublisher.publishAfterCommit(User.class.getName(), id);
+            }
+            case ENROLLMENTS -> { }
+        }
+    }
+
+    /**
+     * Restore a soft-deleted row
+     *
+     * @param target the kind of row
+     * @param id the row ID
+     * @throws IllegalArgumentException if no deleted row with the ID exists
+     */
+    @Transactional
+    public void restore(Target target, Long id) {
+        log.info("Restoring {} {}", target, id);
+
+        // Lookups by primary key are not filtered, so the deletion timestamp is still readable
+        LocalDateTime deletedAt = repository(target).findById(id)
+                .filter(BaseEntity::isDeleted)
+                .map(BaseEntity::getDeletedAt)
+                .orElseThrow(() -> new IllegalArgumentException("Deleted " + label(target).toLowerCase() + " not found: " + id));
+
+        List<Long> ids = List.of(id);
+        // The filter also applies to bulk updates, which would otherwise never match a deleted row
+        withDeletedRows(() -> {
+            repository(target).restoreByIds(ids);
+            switch (target) {
+                case COURSES -> enrollmentRepository.restoreByCourseIds(ids, deletedAt);
+                case USERS -> enrollmentRepository.restoreByChildIds(ids, deletedAt);
+                case ENROLLMENTS -> { }
+            }
+            return null;
+        });
+
+        switch (target) {
+            case COURSES -> cacheInvalidationPublisher.publishAfterCommit(Course.class.getName(), id);
+            case USERS -> cacheInvalidationPublisher.publishAfterCommit(User.class.getName(), id);
+            case ENROLLMENTS -> { }
+        }
+    }
+
+    /**
+     * Get soft-deleted rows, newest deletion first
+     *
+     * @param target the kind of row
+     * @param page zero-based page number
+     * @param size page size
+     * @return list of deleted rows
+     */
+    @Transactional(readOnly = true)
+    public List<DeletedRecordResponse> getDeleted(Target target, int page, int size) {
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        List<? extends BaseEntity> rows = withDeletedRows(() ->
+                repository(target).findAllDeleted(PageRequest.of(page, size)));
+
+        return rows.stream()
+                .map(row -> DeletedRecordResponse.builder()
+                        .id((Long) persistenceUnitUtil.getIdentifier(row))
+                        .deletedAt(row.getDeletedAt())
+                        .deletedBy(row.getDeletedBy())
+                        .build())
+                .toList();
+    }
+
+    private <T> T withDeletedRows(Supplier<T> action) {
+        Session session = entityManager.unwrap(Session.class);
+        session.disableFilter(BaseEntity.NOT_DELETED_FILTER);
+        try {
+            return action.get();
+        } finally {
+            session.enableFilter(BaseEntity.NOT_DELETED_FILTER);
+        }
+    }
+
+    private SoftDeleteRepository<? extends BaseEntity> repository(Target target) {
+        return switch (target) {
+            case COURSES -> courseRepository;
+            case USERS -> userRepository;
+            case ENROLLMENTS -> enrollmentRepository;
+        };
+    }
+
+    private String label(Target target) {
+        return switch (target) {
+            case COURSES -> "Course";
+            case USERS -> "User";
+            case ENROLLMENTS -> "Enrollment";
+        };
+    }
+}
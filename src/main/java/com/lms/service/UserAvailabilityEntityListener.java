@@ -0,0 +1,30 @@
+package com.lms.service;
+
+import com.lms.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * JPA entity listener that adds inserted and updated users to the {@link UserAvailabilityService} filter.
+ * Runs before commit, so a name is never reported free once its insert is visible; a rolled-back insert
+ * only leaves a false positive that costs a query. Other nodes are told once the transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAvailabilityEntityListener {
+
+    // Resolved lazily: this listener is created while the EntityManagerFactory is being built
+    private final ObjectProvider<UserAvailabilityService> availabilityService;
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(User user) {
+        availabilityService.getObject().recordAndPublish(
+                List.of(new UserAvailabilityService.Names(user.getUsername(), user.getEmail())));
+    }
+}
@@ -0,0 +1,287 @@
+package com.lms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.cache.CacheInvalidationHandler;
+import com.lms.cache.CacheInvalidationPublisher;
+import com.lms.config.AvailabilityProperties;
+import com.lms.entity.User;
+import com.lms.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Answers whether a username or email is still free without a query in the common case.
+ * A Bloom filter holds every username and lower-cased email in the users table, soft-deleted rows included
+ * since the unique constraints still hold them. A miss in the filter means the value is free; a hit falls
+ * through to the indexed exists query, so answers are exact either way.
+ * <p>
+ * The filter is built before the application reports ready and fed by {@link UserAvailabilityEntityListener}
+ * on local inserts. Other nodes learn the names from a {@link #NAMES_INVALIDATION} message, which the
+ * second-level cache ignores, once the insert commits. Deleted users stay in the filter until the next build;
+ * they only cost a query. Until the first build, and when disabled, every check queries.
+ */
+@Slf4j
+@Service
+public class UserAvailabilityService implements ApplicationRunner, CacheInvalidationHandler {
+
+    /** Invalidation whose id is a JSON array of [username, email] pairs to add to the filter */
+    public static final String NAMES_INVALIDATION = "lms.availability.names";
+
+    // NOTIFY payloads are limited to 8000 bytes, the message header included
+    private static final int MAX_NAMES_PAYLOAD_BYTES = 7000;
+
+    private static final String USERNAME_KEY = "u:";
+    private static final String EMAIL_KEY = "e:";
+
+    private static final String FIELD_USERNAME = "username";
+    private static final String FIELD_EMAIL = "email";
+    private static final String RESULT_FILTERED = "filtered";
+    private static final String RESULT_AVAILABLE = "available";
+    private static final String RESULT_TAKEN = "taken";
+
+    private final AvailabilityProperties properties;
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate primaryTransaction;
+    private final Meter.MeterProvider<Counter> checkCounters;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong entries = new AtomicLong();
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+    private volatile long capacity;
+
+    public UserAvailabilityService(AvailabilityProperties properties,
+                                   UserService userService,
+                                   DataSource dataSource,
+                                   PlatformTransactionManager transactionManager,
+                                   CacheInvalidationPublisher invalidationPublisher,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry registry) {
+        this.properties = properties;
+        this.userService = userService;
+        this.invalidationPublisher = invalidationPublisher;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        // Read-write so the routing data source keeps the scan on the primary, where every committed user is visible
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.checkCounters = Counter.builder("lms.availability.checks")
+                .description("Username and email availability checks, by whether the filter answered them")
+                .withRegistry(registry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Check whether a username is free
+     *
+     * @param username the username
+     * @return true if no user, deleted or not, has the username
+     */
+    public boolean isUsernameAvailable(String username) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(USERNAME_KEY + username)) {
+            count(FIELD_USERNAME, RESULT_FILTERED);
+            return true;
+        }
+        boolean taken = userService.existsByUsername(username);
+        count(FIELD_USERNAME, taken ? RESULT_TAKEN : RESULT_AVAILABLE);
+        return !taken;
+    }
+
+    /**
+     * Check whether an email is free
+     *
+     * @param email the email
+     * @return true if no user, deleted or not, has the email
+     */
+    public boolean isEmailAvailable(String email) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(EMAIL_KEY + email.toLowerCase(Locale.ROOT))) {
+            count(FIELD_EMAIL, RESULT_FILTERED);
+            return true;
+        }
+        boolean taken = userService.existsByEmail(email);
+        count(FIELD_EMAIL, taken ? RESULT_TAKEN : RESULT_AVAILABLE);
+        return !taken;
+    }
+
+    /**
+     * Add a user's username and email to the filter
+     *
+     * @param username the username
+     * @param email the email
+     */
+    public void record(String username, String email) {
+        // Read the filter being built first: once it is null, the build has been published as the filter
+        BloomFilter next = building;
+        BloomFilter current = filter;
+        if (current == null && next == null) {
+            return;
+        }
+        if (current != null) {
+            put(current, username, email);
+        }
+        if (next != null && next != current) {
+            put(next, username, email);
+        }
+        if (entries.incrementAndGet() > capacity && rebuilding.compareAndSet(false, true)) {
+            log.info("Availability filter is past its size of {} users, rebuilding", capacity);
+            CompletableFuture.runAsync(this::rebuildNow);
+        }
+    }
+
+    /**
+     * Add users to the filter, and to the filters of other nodes once the current transaction commits
+     *
+     * @param users username and email of each user
+     */
+    public void recordAndPublish(List<Names> users) {
+        StringBuilder payload = new StringBuilder();
+        int bytes = 0;
+        for (Names user : users) {
+            record(user.username(), user.email());
+            String pair = encode(user);
+            int pairBytes = pair.getBytes(StandardCharsets.UTF_8).length;
+            // One byte for the separator before the pair and one for the closing bracket
+            if (bytes > 0 && bytes + pairBytes + 2 > MAX_NAMES_PAYLOAD_BYTES) {
+                publishNames(payload);
+                payload.setLength(0);
+                bytes = 0;
+            }
+            payload.append(bytes == 0 ? '[' : ',').append(pair);
+            bytes += pairBytes + 1;
+        }
+        if (bytes > 0) {
+            publishNames(payload);
+        }
+    }
+
+    @Override
+    public void evict(String entityName, String id) {
+        if (filter == null) {
+            return;
+        }
+        if (NAMES_INVALIDATION.equals(entityName)) {
+            try {
+                for (JsonNode pair : objectMapper.readTree(id)) {
+                    record(pair.path(0).asText(), pair.path(1).asText());
+                }
+            } catch (JsonProcessingException ex) {
+                log.warn("Ignoring malformed availability invalidation: {}", ex.getOriginalMessage());
+            }
+            return;
+        }
+        if (!User.class.getName().equals(entityName)) {
+            return;
+        }
+        // Users restored by bulk statements on another node arrive by id; re-adding unchanged values is harmless
+        primaryTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+                "SELECT username, email FROM users WHERE id = ?",
+                rs -> {
+                    record(rs.getString(1), rs.getString(2));
+                },
+                Long.valueOf(id)));
+    }
+
+    @Override
+    public void evictAll() {
+        // Messages may have been missed, so inserts on other nodes may be missing from the filter
+        if (filter != null && rebuilding.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::rebuildNow);
+        }
+    }
+
+    private void rebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            rebuildNow();
+        }
+    }
+
+    private void rebuildNow() {
+        try {
+            long start = System.nanoTime();
+            Long rows = primaryTransaction.execute(status ->
+                    jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class));
+            long size = Math.max(properties.getExpectedUsers(), 2 * (rows == null ? 0 : rows));
+            BloomFilter next = BloomFilter.create(2 * size, properties.getFalsePositiveProbability());
+            // Users recorded from here on go into both filters. A user inserted but not yet committed when the
+            // scan starts, and recorded before this line, can be missed; registration still hits the unique constraint.
+            building = next;
+            AtomicLong streamed = new AtomicLong();
+            primaryTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+                    "SELECT username, email FROM users",
+                    rs -> {
+                        put(next, rs.getString(1), rs.getString(2));
+                        streamed.incrementAndGet();
+                    }));
+            capacity = size;
+            entries.set(streamed.get());
+            filter = next;
+            building = null;
+            log.info("Availability filter built from {} users in {} ms ({} KB, {} hashes, sized for {} users)",
+                    streamed.get(), (System.nanoTime() - start) / 1_000_000, next.bitSize() / 8 / 1024,
+                    next.hashCount(), size);
+        } catch (RuntimeException ex) {
+            building = null;
+            log.warn("Availability filter build failed, checks keep using {}: {}",
+                    filter == null ? "the database" : "the previous filter", ex.getMessage());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private static void put(BloomFilter target, String username, String email) {
+        target.put(USERNAME_KEY + username);
+        target.put(EMAIL_KEY + email.toLowerCase(Locale.ROOT));
+    }
+
+    private String encode(Names user) {
+        try {
+            return objectMapper.writeValueAsString(new String[]{user.username(), user.email()});
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode availability invalidation", ex);
+        }
+    }
+
+    private void publishNames(StringBuilder payload) {
+        invalidationPublisher.publishAfterCommit(NAMES_INVALIDATION, payload.append(']').toString());
+    }
+
+    private void count(String field, String result) {
+        checkCounters.withTags(Tags.of("field", field, "result", result)).increment();
+    }
+
+    /**
+     * Username and email of a user to add to the filter
+     */
+    public record Names(String username, String email) {
+    }
+}
@@ -0,0 +1,376 @@
+package com.lms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.lms.cache.CacheInvalidationPublisher;
+import com.lms.config.UserImportProperties;
+import com.lms.dto.request.RegisterRequest;
+import com.lms.dto.request.UserImportRow;
+import com.lms.dto.response.UserImportFailure;
+import com.lms.dto.response.UserImportResponse;
+import com.lms.entity.Role;
+import com.lms.entity.User;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for bulk user imports.
+ * The upload is read one line at a time, so memory use depends on the batch size rather than the file size.
+ * Each batch of valid rows has its passwords hashed on a fork-join pool shared by all imports, then is
+ * copied into a temporary staging table and merged into {@code users} with one set-based insert; rows
+ * whose username or email is already taken are skipped by the unique constraints and reported.
+ * No connection is held while hashing, and a batch commits on its own, so a bad row or batch never
+ * undoes the rest of the file.
+ * <p>
+ * CSV files need a header row naming the columns; quoted values may not span lines.
+ */
+@Slf4j
+@Service
+public class UserImportService implements AutoCloseable {
+
+    private static final int MAX_USERNAME_LENGTH = 50;
+    private static final int MAX_EMAIL_LENGTH = 100;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE IF NOT EXISTS user_import_staging (
+                line BIGINT NOT NULL,
+                username VARCHAR(50) NOT NULL,
+                email VARCHAR(100) NOT NULL,
+                password VARCHAR(255) NOT NULL,
+                role_id BIGINT NOT NULL
+            ) ON COMMIT DELETE ROWS""";
+
+    private static final String MERGE = """
+            INSERT INTO users (username, email, password, role_id, is_active,
+                               created_at, created_by, updated_at, updated_by, is_deleted, version)
+            SELECT s.username, s.email, s.password, s.role_id, true, ?, ?, ?, ?, false, 0
+            FROM user_import_staging s
+            ORDER BY s.line
+            ON CONFLICT DO NOTHING
+            RETURNING id, username""";
+
+    private final UserImportProperties properties;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final RoleRegistry roleRegistry;
+    private final UserAvailabilityService userAvailabilityService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate primaryTransaction;
+    private final ObjectReader jsonReader;
+    private final CsvMapper csvMapper;
+    private final ForkJoinPool hashingPool;
+
+    public UserImportService(UserImportProperties properties,
+                             PasswordEncoder passwordEncoder,
+                             Validator validator,
+                             RoleRegistry roleRegistry,
+                             UserAvailabilityService userAvailabilityService,
+                             CacheInvalidationPublisher cacheInvalidationPublisher,
+                             DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.roleRegistry = roleRegistry;
+        this.userAvailabilityService = userAvailabilityService;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // Read-write, so batches go to the primary
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.jsonReader = objectMapper.readerFor(UserImportRow.class);
+        this.csvMapper = new CsvMapper();
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.hashingPool = new ForkJoinPool(parallelism, pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("user-import-hash-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Import users from an NDJSON or CSV stream
+     *
+     * @param format the upload format
+     * @param in the upload
+     * @param importedBy username recorded as creator of the imported users
+     * @return counts and the failed rows
+     */
+    public UserImportResponse importUsers(ExportService.Format format, InputStream in, String importedBy) {
+        long start = System.nanoTime();
+        log.info("Starting user import as {} by {}", format, importedBy);
+        Progress progress = new Progress(properties.getMaxReportedFailures());
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<PendingUser> batch = new ArrayList<>(properties.getBatchSize());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            ObjectReader rowReader = jsonReader;
+            long lineNumber = 0;
+            if (format == ExportService.Format.CSV) {
+                String header = reader.readLine();
+                lineNumber++;
+                if (header == null) {
+                    return progress.toResponse(start);
+                }
+                rowReader = csvReader(header);
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                progress.total++;
+                PendingUser user = read(rowReader, lineNumber, line, progress);
+                if (user == null) {
+                    continue;
+                }
+                // Duplicates within the file are reported here, so the merge can tell conflicts apart by username
+                if (!seenUsernames.add(user.request().getUsername())) {
+                    progress.fail(lineNumber, user.request().getUsername(), "Duplicate username in file");
+                    continue;
+                }
+                if (!seenEmails.add(user.request().getEmail())) {
+                    progress.fail(lineNumber, user.request().getUsername(), "Duplicate email in file");
+                    continue;
+                }
+                batch.add(user);
+                if (batch.size() >= properties.getBatchSize()) {
+                    writeBatch(batch, importedBy, progress);
+                    batch.clear();
+                }
+            }
+            writeBatch(batch, importedBy, progress);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Import aborted after " + progress.total + " rows", ex);
+        }
+
+        UserImportResponse response = progress.toResponse(start);
+        log.info("User import completed: {} of {} rows imported, {} failed in {} ms",
+                response.getImported(), response.getTotal(), response.getFailed(), response.getDurationMs());
+        return response;
+    }
+
+    @Override
+    public void close() {
+        hashingPool.shutdownNow();
+    }
+
+    private ObjectReader csvReader(String header) {
+        CsvSchema.Builder schema = CsvSchema.builder();
+        for (String column : header.split(",")) {
+            schema.addColumn(column.trim().replace("\"", "").toLowerCase(Locale.ROOT));
+        }
+        return csvMapper.readerFor(UserImportRow.class).with(schema.build());
+    }
+
+    private PendingUser read(ObjectReader rowReader, long lineNumber, String line, Progress progress) {
+        UserImportRow row;
+        try {
+            row = rowReader.readValue(line);
+        } catch (JsonProcessingException ex) {
+            progress.fail(lineNumber, null, "Unreadable row: " + ex.getOriginalMessage());
+            return null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        Role role = null;
+        if (row.getRole() != null && !row.getRole().isBlank()) {
+            try {
+                role = Role.valueOf(row.getRole().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                progress.fail(lineNumber, row.getUsername(), "Unknown role: " + row.getRole());
+                return null;
+            }
+        }
+        RegisterRequest request = new RegisterRequest(row.getUsername(), row.getEmail(), row.getPassword(), role);
+
+        // Same rules as registration, plus the column lengths registration leaves to the database
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            progress.fail(lineNumber, row.getUsername(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        if (request.getUsername().length() > MAX_USERNAME_LENGTH) {
+            progress.fail(lineNumber, row.getUsername(), "Username must be at most " + MAX_USERNAME_LENGTH + " characters");
+            return null;
+        }
+        if (request.getEmail().length() > MAX_EMAIL_LENGTH) {
+            progress.fail(lineNumber, row.getUsername(), "Email must be at most " + MAX_EMAIL_LENGTH + " characters");
+            return null;
+        }
+        if (!roleRegistry.contains(role)) {
+            progress.fail(lineNumber, row.getUsername(), "Role not found: " + role);
+            return null;
+        }
+        return new PendingUser(lineNumber, request, roleRegistry.idOf(role));
+    }
+
+    private void writeBatch(List<PendingUser> batch, String importedBy, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<String> hashes = hash(batch);
+
+        StringBuilder copy = new StringBuilder(batch.size() * 128);
+        for (int i = 0; i < batch.size(); i++) {
+            PendingUser user = batch.get(i);
+            copy.append(user.line()).append(',')
+                    .append(csv(user.request().getUsername())).append(',')
+                    .append(csv(user.request().getEmail())).append(',')
+                    .append(csv(hashes.get(i))).append(',')
+                    .append(user.roleId()).append('\n');
+        }
+
+        Map<String, Long> inserted = new HashMap<>();
+        Set<String> takenUsernames = new HashSet<>();
+        try {
+            primaryTransaction.executeWithoutResult(status -> {
+                Connection connection = DataSourceUtils.getConnection(dataSource);
+                jdbcTemplate.execute(CREATE_STAGING);
+                try {
+                    connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                            "COPY user_import_staging (line, username, email, password, role_id) FROM STDIN (FORMAT csv)",
+                            new StringReader(copy.toString()));
+                } catch (SQLException | IOException ex) {
+                    throw new IllegalStateException("COPY into staging failed: " + ex.getMessage(), ex);
+                }
+
+                LocalDateTime now = LocalDateTime.now();
+                jdbcTemplate.query(MERGE, rs -> {
+                    inserted.put(rs.getString(2), rs.getLong(1));
+                }, now, importedBy, now, importedBy);
+
+                if (inserted.size() < batch.size()) {
+                    String[] skipped = batch.stream()
+                            .map(user -> user.request().getUsername())
+                            .filter(username -> !inserted.containsKey(username))
+                            .toArray(String[]::new);
+                    takenUsernames.addAll(jdbcTemplate.queryForList(
+                            "SELECT username FROM users WHERE username = ANY (?)", String.class, (Object) skipped));
+                }
+
+                for (Long id : inserted.values()) {
+                    cacheInvalidationPublisher.publishAfterCommit(User.class.getName(), id);
+                }
+            });
+        } catch (DataAccessException | IllegalStateException ex) {
+            log.warn("User import batch of {} rows failed: {}", batch.size(), ex.getMessage());
+            for (PendingUser user : batch) {
+                progress.fail(user.line(), user.request().getUsername(), "Batch failed: " + ex.getMessage());
+            }
+            return;
+        }
+
+        for (PendingUser user : batch) {
+            String username = user.request().getUsername();
+            if (inserted.containsKey(username)) {
+                progress.imported++;
+                userAvailabilityService.record(username, user.request().getEmail());
+            } else {
+                progress.fail(user.line(), username,
+                        takenUsernames.contains(username) ? "Username already exists" : "Email already exists");
+            }
+        }
+    }
+
+    private List<String> hash(List<PendingUser> batch) {
+        List<ForkJoinTask<String>> tasks = new ArrayList<>(batch.size());
+        for (PendingUser user : batch) {
+            String password = user.request().getPassword();
+            tasks.add(hashingPool.submit(() -> passwordEncoder.encode(password)));
+        }
+        List<String> hashes = new ArrayList<>(batch.size());
+        for (ForkJoinTask<String> task : tasks) {
+            hashes.add(task.join());
+        }
+        return hashes;
+    }
+
+    private static String csv(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private record PendingUser(long line, RegisterRequest request, Long roleId) {
+    }
+
+    private static final class Progress {
+
+        private final int maxReportedFailures;
+        private final List<UserImportFailure> failures = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        Progress(int maxReportedFailures) {
+            this.maxReportedFailures = maxReportedFailures;
+        }
+
+        void fail(long line, String username, String reason) {
+            failed++;
+            if (failures.size() < maxReportedFailures) {
+                failures.add(new UserImportFailure(line, username, reason));
+            }
+        }
+
+        UserImportResponse toResponse(long startNanos) {
+            // Batch failures are recorded after the rows rejected while reading, so restore file order
+            failures.sort(Comparator.comparingLong(UserImportFailure::getLine));
+            return UserImportResponse.builder()
+                    .total(total)
+                    .imported(imported)
+                    .failed(failed)
+                    .failures(failures)
+                    .failuresTruncated(failed > failures.size())
+                    .durationMs((System.nanoTime() - startNanos) / 1_000_000)
+                    .build();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.lms.service;
 
+import com.lms.dto.projection.UserAccountRow;
 import com.lms.entity.User;
 import com.lms.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +12,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.util.Optional;
 
 /**
  * Service class for user-related operations.
@@ -23,6 +24,7 @@ public class UserService implements UserDetailsService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     private final UserRepository userRepository;
+    private final RoleRegistry roleRegistry;
 
     /**
      * Load user by username for Spring Security.
@@ -50,7 +52,7 @@ public class UserService implements UserDetailsService {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getUsername())
                 .password(user.getPassword())
-                .authorities(user.getRoles().getRole().name())
+                .authorities(roleRegistry.roleOf(user).name())
                 .build();
     }
 
@@ -79,7 +81,7 @@ public class UserService implements UserDetailsService {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getUsername())
                 .password(user.getPassword())
-                .authorities(user.getRoles().getRole().name())
+                .authorities(roleRegistry.roleOf(user).name())
                 .build();
     }
 
@@ -108,20 +110,19 @@ public class UserService implements UserDetailsService {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getUsername())
                 .password(user.getPassword())
-                .authorities(user.getRoles().getRole().name())
+                .authorities(roleRegistry.roleOf(user).name())
                 .build();
     }
 
     /**
-     * Find user entity by username.
+     * Find the account for a login, preferring a username match over an email match.
      * 
-     * @param username the username to find
-     * @return User entity
+     * @param usernameOrEmail the username or email
+     * @return Optional containing the account's id, username, email and role
      */
     @Transactional(readOnly = true)
-    public User findByUsername(String username) {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+    public Optional<UserAccountRow> findAccount(String usernameOrEmail) {
+        return userRepository.findAccounts(usernameOrEmail).stream().findFirst();
     }
 
     /**
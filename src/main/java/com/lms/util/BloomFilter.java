@@ -0,0 +1,112 @@
+package com.lms.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings.
+ * {@link #mightContain(String)} never returns false for a key that was {@link #put(String)}; it returns true
+ * for an absent key with roughly the probability the filter was sized for, as long as no more than the
+ * expected number of keys is added. Safe for concurrent puts and reads without locking.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final long MAX_BITS = (long) Integer.MAX_VALUE * Long.SIZE;
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    private BloomFilter(long bits, int hashes) {
+        this.words = new AtomicLongArray((int) ((bits + Long.SIZE - 1) / Long.SIZE));
+        this.bits = bits;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Create a filter sized for a number of keys and false-positive probability
+     *
+     * @param expectedInsertions keys the filter is expected to hold
+     * @param falsePositiveProbability target probability of {@link #mightContain(String)} being true for an absent key
+     * @return an empty filter
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False-positive probability must be in (0, 1): " + falsePositiveProbability);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (LN2 * LN2));
+        bits = Math.min(Math.max(Long.SIZE, bits), MAX_BITS);
+        int hashes = (int) Math.max(1, Math.round((double) bits / n * LN2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * Add a key
+     *
+     * @param key the key
+     */
+    public void put(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, set) -> current | set);
+            }
+        }
+    }
+
+    /**
+     * Check whether a key may have been added
+     *
+     * @param key the key
+     * @return false if the key was definitely never added
+     */
+    public boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return size of the bit array, for logging memory use
+     */
+    public long bitSize() {
+        return bits;
+    }
+
+    /**
+     * @return hash functions applied per key
+     */
+    public int hashCount() {
+        return hashes;
+    }
+
+    // FNV-1a over the UTF-16 chars, finished with the MurmurHash3 mixer so every bit depends on every char
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,6 +1,8 @@
 package com.lms.util;
 
+import com.lms.metrics.TokenVerificationEvent;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -94,7 +96,14 @@ public class JwtUtil {
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
+    /**
+     * Check whether a token is a valid internal JWT: signed with our secret, unexpired and with a subject.
+     * Emits a {@link TokenVerificationEvent} when JFR has it enabled.
+     */
     public boolean isValidInternalToken(String token) {
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        String outcome = "invalid";
         try {
             // 1. Parse and validate signature
             Claims claims = Jwts.parser()
@@ -106,6 +115,7 @@ public class JwtUtil {
             // 2. Validate expiration
             Date expiration = claims.getExpiration();
             if (expiration.before(new Date())) {
+                outcome = "expired";
                 return false; // token expired
             }
 
@@ -115,11 +125,22 @@ public class JwtUtil {
                 return false; // invalid token
             }
 
+            outcome = "valid";
             return true; // token is valid internal JWT
 
+        } catch (ExpiredJwtException ex) {
+            outcome = "expired";
+            return false;
         } catch (Exception ex) {
             // Any signature / parsing error → invalid token
             return false;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.tokenType = "internal";
+                event.outcome = outcome;
+                event.commit();
+            }
         }
     }
 
@@ -0,0 +1,189 @@
+package com.lms.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.config.WarmUpProperties;
+import com.lms.dto.response.ApiResponse;
+import com.lms.dto.response.AuthResponse;
+import com.lms.dto.response.ChildProgressSummary;
+import com.lms.dto.response.ParentOverviewResponse;
+import com.lms.entity.Parent;
+import com.lms.entity.ParentType;
+import com.lms.entity.Role;
+import com.lms.entity.User;
+import com.lms.repository.CourseRepository;
+import com.lms.repository.EnrollmentRepository;
+import com.lms.repository.ParentRepository;
+import com.lms.repository.RoleRepository;
+import com.lms.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exercises the hot request paths before the application reports ready.
+ * Spring Boot only moves readiness to ACCEPTING_TRAFFIC once every ApplicationRunner has returned,
+ * so the first real requests hit JIT-compiled token, query and serialization code.
+ */
+@Slf4j
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    private final WarmUpProperties properties;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ParentRepository parentRepository;
+    private final ApplicationContext applicationContext;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public WarmUpRunner(WarmUpProperties properties,
+                        JwtUtil jwtUtil,
+                        ObjectMapper objectMapper,
+                        UserRepository userRepository,
+                        RoleRepository roleRepository,
+                        CourseRepository courseRepository,
+                        EnrollmentRepository enrollmentRepository,
+                        ParentRepository parentRepository,
+                        ApplicationContext applicationContext,
+                        PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.parentRepository = parentRepository;
+        this.applicationContext = applicationContext;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled() || properties.getIterations() <= 0) {
+            return;
+        }
+
+        RestClient restClient = localRestClient();
+        long[] iterationNanos = new long[properties.getIterations()];
+        long started = System.nanoTime();
+        long deadline = started + properties.getDuration().toNanos();
+        int completed = 0;
+
+        log.info("---- Starting warm-up: up to {} iterations or {} ----",
+                properties.getIterations(), properties.getDuration());
+
+        try {
+            while (completed < iterationNanos.length && System.nanoTime() < deadline) {
+                long iterationStart = System.nanoTime();
+                runIteration(restClient);
+                iterationNanos[completed++] = System.nanoTime() - iterationStart;
+            }
+        } catch (RuntimeException ex) {
+            // A broken path at startup is a real problem, but readiness should not wait on it
+            log.warn("Warm-up stopped after {} iterations: {}", completed, ex.getMessage());
+        }
+
+        int window = Math.max(1, completed / 10);
+        log.info("---- Warm-up completed: {} iterations in {} ms, first {} averaged {} us, last {} averaged {} us ----",
+                completed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                window, averageMicros(iterationNanos, 0, Math.min(window, completed)),
+                window, averageMicros(iterationNanos, Math.max(0, completed - window), completed));
+    }
+
+    private void runIteration(RestClient restClient) {
+        // Token minting and verification, as done by login and by the JWT filter
+        String token = jwtUtil.generateToken(properties.getUsername());
+        if (!jwtUtil.isValidInternalToken(token) || !properties.getUsername().equals(jwtUtil.extractUsername(token))) {
+            throw new IllegalStateException("Freshly minted token failed verification");
+        }
+
+        // Representative queries, read-only and rolled back
+        Optional<User> user = readOnlyTransaction.execute(status -> {
+            Optional<User> found = userRepository.findByUsername(properties.getUsername());
+            roleRepository.findAllWithPermissions();
+            courseRepository.findAllActive();
+            found.ifPresent(enrollmentRepository::findByChild);
+            parentRepository.findFamilyOverview(found.map(User::getParent).map(Parent::getId).orElse(0L));
+            status.setRollbackOnly();
+            return found;
+        });
+
+        // Response serialization
+        try {
+            objectMapper.writeValueAsBytes(ApiResponse.success("Login successful", AuthResponse.builder()
+                    .token(token)
+                    .tokenType("Bearer")
+                    .id(user.map(User::getId).orElse(0L))
+                    .username(properties.getUsername())
+                    .email(user.map(User::getEmail).orElse(null))
+                    .role(Role.ADMIN)
+                    .build()));
+            objectMapper.writeValueAsBytes(ApiResponse.success("Family overview retrieved successfully",
+                    ParentOverviewResponse.builder()
+                            .parentId(0L)
+                            .name("warm-up")
+                            .parentType(ParentType.DECIDING)
+                            .children(List.of(ChildProgressSummary.builder()
+                                    .childId(0L)
+                                    .name("warm-up")
+                                    .totalEnrollments(2)
+                                    .completedEnrollments(1)
+                                    .inProgressEnrollments(1)
+                                    .averageProgress(50.0)
+                                    .build()))
+                            .build()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Response serialization failed", ex);
+        }
+
+        // Full request path: security filter chain, controller and message converters
+        if (restClient != null && user.isPresent()) {
+            for (String path : properties.getHttpPaths()) {
+                restClient.get()
+                        .uri(path)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .retrieve()
+                        .onStatus(status -> true, (request, response) -> { })
+                        .toBodilessEntity();
+            }
+        }
+    }
+
+    private RestClient localRestClient() {
+        if (properties.getHttpPaths().isEmpty()
+                || !(applicationContext instanceof WebServerApplicationContext webContext)
+                || webContext.getWebServer() == null) {
+            return null;
+        }
+        return RestClient.create("http://localhost:" + webContext.getWebServer().getPort());
+    }
+
+    private static long averageMicros(long[] nanos, int from, int to) {
+        if (to <= from) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            total += nanos[i];
+        }
+        return TimeUnit.NANOSECONDS.toMicros(total / (to - from));
+    }
+}
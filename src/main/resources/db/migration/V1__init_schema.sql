@@ -1,33 +1,130 @@
--- Database initialization script for LMS Authentication Service
--- This script creates the users table if it doesn't exist
+-- Baseline schema for the LMS service.
+-- Mirrors the JPA entity model; Hibernate only validates against it (ddl-auto=validate).
+-- Databases previously created by ddl-auto=update are baselined at this version
+-- (spring.flyway.baseline-on-migrate), so this script only runs on empty databases.
 
+CREATE TABLE IF NOT EXISTS permission (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    created_by VARCHAR(100),
+    updated_at TIMESTAMP(6) NOT NULL,
+    updated_by VARCHAR(100),
+    deleted_at TIMESTAMP(6),
+    deleted_by VARCHAR(100),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_permission_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS roles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    role VARCHAR(20) NOT NULL,
+    description VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    created_by VARCHAR(100),
+    updated_at TIMESTAMP(6) NOT NULL,
+    updated_by VARCHAR(100),
+    deleted_at TIMESTAMP(6),
+    deleted_by VARCHAR(100),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS role_permissions (
+    role_id BIGINT NOT NULL,
+    permission_id BIGINT NOT NULL,
+    CONSTRAINT pk_role_permissions PRIMARY KEY (role_id, permission_id),
+    CONSTRAINT fk_role_permissions_role FOREIGN KEY (role_id) REFERENCES roles (id),
+    CONSTRAINT fk_role_permissions_permission FOREIGN KEY (permission_id) REFERENCES permission (id)
+);
+
+CREATE TABLE IF NOT EXISTS parent (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    external_child_id BIGINT,
+    name VARCHAR(255),
+    user_name VARCHAR(255),
+    user_email VARCHAR(255),
+    gender VARCHAR(255),
+    parent_type VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    created_by VARCHAR(100),
+    updated_at TIMESTAMP(6) NOT NULL,
+    updated_by VARCHAR(100),
+    deleted_at TIMESTAMP(6),
+    deleted_by VARCHAR(100),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS child (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    external_child_id BIGINT,
+    name VARCHAR(255),
+    user_name VARCHAR(255),
+    case_number VARCHAR(255),
+    gender VARCHAR(255),
+    parent_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    created_by VARCHAR(100),
+    updated_at TIMESTAMP(6) NOT NULL,
+    updated_by VARCHAR(100),
+    deleted_at TIMESTAMP(6),
+    deleted_by VARCHAR(100),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_child_parent FOREIGN KEY (parent_id) REFERENCES parent (id)
+);
+
+-- role_id is deliberately not unique: many users share the same role.
 CREATE TABLE IF NOT EXISTS users (
-    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
-    username VARCHAR(50) NOT NULL UNIQUE,
-    email VARCHAR(100) NOT NULL UNIQUE,
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
     password VARCHAR(255) NOT NULL,
-    role VARCHAR(20) NOT NULL CHECK (role IN ('ADMIN', 'CHILD')),
+    role_id BIGINT NOT NULL,
     is_active BOOLEAN NOT NULL DEFAULT TRUE,
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+    parent_id BIGINT,
+    child_id BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    created_by VARCHAR(100),
+    updated_at TIMESTAMP(6) NOT NULL,
+    updated_by VARCHAR(100),
+    deleted_at TIMESTAMP(6),
+    deleted_by VARCHAR(100),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (id),
+    CONSTRAINT fk_users_parent FOREIGN KEY (parent_id) REFERENCES parent (id),
+    CONSTRAINT fk_users_child FOREIGN KEY (child_id) REFERENCES child (id)
 );
 
--- Create indexes for better query performance
-CREATE INDEX IF NOT EXISTS idx_users_username ON users(username);
-CREATE INDEX IF NOT EXISTS idx_users_email ON users(email);
-CREATE INDEX IF NOT EXISTS idx_users_role ON users(role);
-CREATE INDEX IF NOT EXISTS idx_users_is_active ON users(is_active);
-
--- Create a function to automatically update updated_at timestamp
-CREATE OR REPLACE FUNCTION update_updated_at_column()
-RETURNS TRIGGER AS $$
-BEGIN
-    NEW.updated_at = CURRENT_TIMESTAMP;
-    RETURN NEW;
-END;
-$$ language 'plpgsql';
-
--- Create trigger to automatically update updated_at on row update
-CREATE TRIGGER update_users_updated_at BEFORE UPDATE ON users
-    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE TABLE IF NOT EXISTS courses (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    category VARCHAR(255),
+    is_active BOOLEAN,
+    created_at TIMESTAMP(6) NOT NULL,
+    created_by VARCHAR(100),
+    updated_at TIMESTAMP(6) NOT NULL,
+    updated_by VARCHAR(100),
+    deleted_at TIMESTAMP(6),
+    deleted_by VARCHAR(100),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0
+);
 
+CREATE TABLE IF NOT EXISTS enrollments (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    child_id BIGINT NOT NULL,
+    course_id BIGINT NOT NULL,
+    progress_percentage INTEGER NOT NULL DEFAULT 0,
+    is_completed BOOLEAN,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_enrollments_child FOREIGN KEY (child_id) REFERENCES users (id),
+    CONSTRAINT fk_enrollments_course FOREIGN KEY (course_id) REFERENCES courses (id)
+);
@@ -0,0 +1,21 @@
+-- Indexes for the hot query paths.
+-- Partial indexes only cover live rows (is_deleted = false); the matching queries
+-- carry the same predicate so the planner can use them.
+
+-- EnrollmentRepository.findByChild* / countByChild* and the parent overview join
+CREATE INDEX IF NOT EXISTS idx_enrollments_child_id ON enrollments (child_id);
+
+-- EnrollmentRepository.findByCourse* / countByCourse*
+CREATE INDEX IF NOT EXISTS idx_enrollments_course_completed ON enrollments (course_id, is_completed);
+
+-- CourseRepository.findByCategory* / findByIsActiveTrue / findAllActive
+CREATE INDEX IF NOT EXISTS idx_courses_category_active ON courses (category, is_active)
+    WHERE is_deleted = false;
+
+-- UserRepository.findByEmail / existsByEmail (case-insensitive lookup on login)
+CREATE INDEX IF NOT EXISTS idx_users_email_lower ON users (lower(email))
+    WHERE is_deleted = false;
+
+-- Parent overview: parent -> children -> users
+CREATE INDEX IF NOT EXISTS idx_child_parent_id ON child (parent_id);
+CREATE INDEX IF NOT EXISTS idx_users_child_id ON users (child_id);
@@ -0,0 +1,32 @@
+-- Soft delete support.
+-- Enrollments now extend BaseEntity and get the shared audit and soft delete columns.
+ALTER TABLE enrollments ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6) NOT NULL DEFAULT now();
+ALTER TABLE enrollments ADD COLUMN IF NOT EXISTS created_by VARCHAR(100);
+ALTER TABLE enrollments ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6) NOT NULL DEFAULT now();
+ALTER TABLE enrollments ADD COLUMN IF NOT EXISTS updated_by VARCHAR(100);
+ALTER TABLE enrollments ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
+ALTER TABLE enrollments ADD COLUMN IF NOT EXISTS deleted_by VARCHAR(100);
+ALTER TABLE enrollments ADD COLUMN IF NOT EXISTS is_deleted BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Every query now carries is_deleted = false (the Hibernate soft delete filter),
+-- so the hot-path indexes only need to cover live rows.
+DROP INDEX IF EXISTS idx_enrollments_child_id;
+CREATE INDEX IF NOT EXISTS idx_enrollments_child_live ON enrollments (child_id)
+    WHERE is_deleted = false;
+
+DROP INDEX IF EXISTS idx_enrollments_course_completed;
+CREATE INDEX IF NOT EXISTS idx_enrollments_course_completed_live ON enrollments (course_id, is_completed)
+    WHERE is_deleted = false;
+
+DROP INDEX IF EXISTS idx_child_parent_id;
+CREATE INDEX IF NOT EXISTS idx_child_parent_live ON child (parent_id)
+    WHERE is_deleted = false;
+
+DROP INDEX IF EXISTS idx_users_child_id;
+CREATE INDEX IF NOT EXISTS idx_users_child_live ON users (child_id)
+    WHERE is_deleted = false;
+
+-- Admin view of deleted rows, newest first
+CREATE INDEX IF NOT EXISTS idx_courses_deleted_at ON courses (deleted_at DESC) WHERE is_deleted = true;
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at ON users (deleted_at DESC) WHERE is_deleted = true;
+CREATE INDEX IF NOT EXISTS idx_enrollments_deleted_at ON enrollments (deleted_at DESC) WHERE is_deleted = true;
@@ -0,0 +1,30 @@
+-- Cold storage for soft-deleted rows, filled by the archival job (ArchivalService).
+-- Each archive table has the columns of its live table plus archived_at, and is
+-- partitioned by month of archived_at so old archive data can be dropped per partition.
+-- Monthly partitions are created ahead of time by PartitionMaintenanceService; the
+-- default partition only catches rows if that ever falls behind.
+-- Columns added to a live table later must be added to its archive table as well.
+
+CREATE TABLE IF NOT EXISTS courses_archive (
+    LIKE courses,
+    archived_at TIMESTAMP(6) NOT NULL DEFAULT now()
+) PARTITION BY RANGE (archived_at);
+CREATE TABLE IF NOT EXISTS courses_archive_default PARTITION OF courses_archive DEFAULT;
+CREATE INDEX IF NOT EXISTS idx_courses_archive_id ON courses_archive (id);
+
+CREATE TABLE IF NOT EXISTS users_archive (
+    LIKE users,
+    archived_at TIMESTAMP(6) NOT NULL DEFAULT now()
+) PARTITION BY RANGE (archived_at);
+CREATE TABLE IF NOT EXISTS users_archive_default PARTITION OF users_archive DEFAULT;
+CREATE INDEX IF NOT EXISTS idx_users_archive_id ON users_archive (id);
+
+CREATE TABLE IF NOT EXISTS enrollments_archive (
+    LIKE enrollments,
+    archived_at TIMESTAMP(6) NOT NULL DEFAULT now()
+) PARTITION BY RANGE (archived_at);
+CREATE TABLE IF NOT EXISTS enrollments_archive_default PARTITION OF enrollments_archive DEFAULT;
+CREATE INDEX IF NOT EXISTS idx_enrollments_archive_id ON enrollments_archive (id);
+-- Restoring a course or user brings back the enrollments deleted together with it
+CREATE INDEX IF NOT EXISTS idx_enrollments_archive_course ON enrollments_archive (course_id, deleted_at);
+CREATE INDEX IF NOT EXISTS idx_enrollments_archive_child ON enrollments_archive (child_id, deleted_at);
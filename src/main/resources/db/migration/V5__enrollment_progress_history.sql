@@ -0,0 +1,21 @@
+-- Append-only log of enrollment progress changes, written in batches by ProgressHistoryService.
+-- Range-partitioned by month of recorded_at: PartitionMaintenanceService creates partitions ahead
+-- of time and drops those older than the retention, so the table never grows unbounded.
+-- No foreign key: history outlives archived enrollments and must not slow down the writes.
+CREATE TABLE IF NOT EXISTS enrollment_progress_history (
+    enrollment_id BIGINT NOT NULL,
+    progress_percentage INTEGER NOT NULL,
+    is_completed BOOLEAN NOT NULL,
+    recorded_at TIMESTAMP(6) NOT NULL
+) PARTITION BY RANGE (recorded_at);
+
+CREATE TABLE IF NOT EXISTS enrollment_progress_history_default
+    PARTITION OF enrollment_progress_history DEFAULT;
+
+-- Rows arrive in time order, so a BRIN index stays tiny and still narrows time range scans
+CREATE INDEX IF NOT EXISTS idx_progress_history_recorded_brin
+    ON enrollment_progress_history USING brin (recorded_at);
+
+-- The per-enrollment history query needs a btree; BRIN cannot find one enrollment among many
+CREATE INDEX IF NOT EXISTS idx_progress_history_enrollment
+    ON enrollment_progress_history (enrollment_id, recorded_at);
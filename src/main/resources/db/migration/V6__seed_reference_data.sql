@@ -0,0 +1,56 @@
+-- Reference data: permissions, one row per Role, and the default super admin.
+-- Replaces the startup-time Bootstrap runner, which issued a find-or-create query per row and a
+-- BCrypt encode on every start. Every statement is idempotent, so existing databases keep their rows.
+
+-- Older databases may hold the same role twice (nothing enforced uniqueness); keep the lowest id.
+CREATE TEMPORARY TABLE role_keep ON COMMIT DROP AS
+SELECT r.id AS duplicate_id, k.id AS keep_id
+FROM roles r
+JOIN (SELECT role, min(id) AS id FROM roles GROUP BY role) k ON k.role = r.role
+WHERE r.id <> k.id;
+
+UPDATE users u SET role_id = rk.keep_id FROM role_keep rk WHERE u.role_id = rk.duplicate_id;
+UPDATE users_archive u SET role_id = rk.keep_id FROM role_keep rk WHERE u.role_id = rk.duplicate_id;
+
+INSERT INTO role_permissions (role_id, permission_id)
+SELECT rk.keep_id, rp.permission_id
+FROM role_permissions rp
+JOIN role_keep rk ON rk.duplicate_id = rp.role_id
+ON CONFLICT DO NOTHING;
+
+DELETE FROM role_permissions rp USING role_keep rk WHERE rp.role_id = rk.duplicate_id;
+DELETE FROM roles r USING role_keep rk WHERE r.id = rk.duplicate_id;
+
+ALTER TABLE roles ADD CONSTRAINT uk_roles_role UNIQUE (role);
+
+INSERT INTO permission (name, description, created_at, updated_at) VALUES
+    ('USER_READ', 'Read user details', now(), now()),
+    ('USER_WRITE', 'Modify user details', now(), now()),
+    ('ROLE_READ', 'Read roles', now(), now()),
+    ('ROLE_WRITE', 'Modify roles', now(), now())
+ON CONFLICT (name) DO NOTHING;
+
+-- One row per com.lms.entity.Role value
+INSERT INTO roles (role, description, created_at, updated_at) VALUES
+    ('ADMIN', 'Full system access', now(), now()),
+    ('DECIDING_PARENT', 'Parent with decision rights', now(), now()),
+    ('NON_DECIDING_PARENT', 'Parent without decision rights', now(), now()),
+    ('CHILD', 'Learner access', now(), now())
+ON CONFLICT (role) DO NOTHING;
+
+INSERT INTO role_permissions (role_id, permission_id)
+SELECT r.id, p.id
+FROM roles r
+CROSS JOIN permission p
+WHERE r.role = 'ADMIN'
+  AND p.name IN ('USER_READ', 'USER_WRITE', 'ROLE_READ', 'ROLE_WRITE')
+ON CONFLICT DO NOTHING;
+
+-- Default password Admin@123, pre-encoded with BCrypt (strength 10); change it after first login.
+INSERT INTO users (username, email, password, role_id, is_active, created_at, updated_at)
+SELECT 'superadmin', 'superadmin@yopmail.com',
+       '$2a$10$lJJ640PgrhG7Gyrs8HHJMOTkhlEQU1h00iD8pmvYzKHfRclzkHTzK',
+       r.id, true, now(), now()
+FROM roles r
+WHERE r.role = 'ADMIN'
+ON CONFLICT DO NOTHING;
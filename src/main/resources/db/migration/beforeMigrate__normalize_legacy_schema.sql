@@ -0,0 +1,80 @@
+-- Brings a database created by Hibernate's ddl-auto=update to the shape of V1.
+-- Such databases are baselined at V1 (spring.flyway.baseline-on-migrate) and never run it, so without this
+-- V6 fails on them: its inserts rely on V1's column defaults, and folding users onto one row per role
+-- collides with the unique constraint Hibernate put on users.role_id for the old @OneToOne mapping.
+-- Flyway runs this callback before every migrate, ahead of any pending version. Every step finds its target
+-- by table and column, not by Hibernate's generated names, and does nothing on a database already in shape.
+DO $$
+DECLARE
+    c record;
+BEGIN
+    IF to_regclass('users') IS NULL THEN
+        RETURN;  -- Empty database: V1 creates everything
+    END IF;
+
+    -- Defaults Hibernate never declares
+    FOR c IN
+        SELECT col.table_name, col.column_name, d.value
+        FROM information_schema.columns col
+        JOIN (VALUES ('is_deleted', 'FALSE'), ('version', '0'), ('is_active', 'TRUE'), ('progress_percentage', '0'))
+            AS d (column_name, value) ON d.column_name = col.column_name
+        WHERE col.table_schema = current_schema()
+          AND col.table_name IN ('permission', 'roles', 'parent', 'child', 'users', 'courses', 'enrollments')
+          AND col.column_default IS NULL
+          AND NOT (col.table_name = 'courses' AND col.column_name = 'is_active')
+    LOOP
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN %I SET DEFAULT %s', c.table_name, c.column_name, c.value);
+    END LOOP;
+
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'enrollments'
+                 AND column_name = 'progress_percentage' AND is_nullable = 'YES') THEN
+        UPDATE enrollments SET progress_percentage = 0 WHERE progress_percentage IS NULL;
+        ALTER TABLE enrollments ALTER COLUMN progress_percentage SET NOT NULL;
+    END IF;
+
+    -- Single-column constraints: V1's name, or dropped when V1 has no such constraint (name NULL).
+    -- Hibernate made role_id, parent_id and child_id unique for @OneToOne and added CHECKs listing enum values.
+    -- A constraint duplicating one that already has the V1 name is dropped rather than renamed.
+    FOR c IN
+        SELECT con.conrelid::regclass AS tab, con.conname, v1.name
+        FROM pg_constraint con
+        JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = con.conkey[1]
+        JOIN (VALUES
+                ('users', 'username', 'u', 'uk_users_username'),
+                ('users', 'email', 'u', 'uk_users_email'),
+                ('users', 'role_id', 'u', NULL),
+                ('users', 'parent_id', 'u', NULL),
+                ('users', 'child_id', 'u', NULL),
+                ('users', 'role_id', 'f', 'fk_users_role'),
+                ('users', 'parent_id', 'f', 'fk_users_parent'),
+                ('users', 'child_id', 'f', 'fk_users_child'),
+                ('permission', 'name', 'u', 'uk_permission_name'),
+                ('roles', 'role', 'c', NULL),
+                ('parent', 'parent_type', 'c', NULL),
+                ('child', 'parent_id', 'f', 'fk_child_parent'),
+                ('enrollments', 'child_id', 'f', 'fk_enrollments_child'),
+                ('enrollments', 'course_id', 'f', 'fk_enrollments_course'),
+                ('role_permissions', 'role_id', 'f', 'fk_role_permissions_role'),
+                ('role_permissions', 'permission_id', 'f', 'fk_role_permissions_permission'))
+            AS v1 (table_name, column_name, contype, name)
+            ON v1.table_name = con.conrelid::regclass::text
+           AND v1.column_name = a.attname
+           AND v1.contype = con.contype
+        WHERE con.connamespace = current_schema()::regnamespace
+          AND cardinality(con.conkey) = 1
+          AND con.conname IS DISTINCT FROM v1.name
+    LOOP
+        IF c.name IS NULL
+           OR EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = c.tab AND conname = c.name) THEN
+            EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', c.tab, c.conname);
+        ELSE
+            EXECUTE format('ALTER TABLE %s RENAME CONSTRAINT %I TO %I', c.tab, c.conname, c.name);
+        END IF;
+    END LOOP;
+
+    IF EXISTS (SELECT 1 FROM pg_constraint
+               WHERE conrelid = to_regclass('role_permissions') AND conname = 'role_permissions_pkey') THEN
+        ALTER TABLE role_permissions RENAME CONSTRAINT role_permissions_pkey TO pk_role_permissions;
+    END IF;
+END $$;
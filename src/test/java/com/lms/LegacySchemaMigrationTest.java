@@ -0,0 +1,96 @@
+package com.lms;
+
+import com.lms.support.TestDatabase;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A database created by Hibernate's ddl-auto=update is baselined at V1 and must end up in the same shape as a
+ * database migrated from scratch, as application.properties configures Flyway.
+ */
+class LegacySchemaMigrationTest {
+
+    private static final String CONSTRAINTS = """
+            SELECT conrelid::regclass::text || ' ' || contype::text || ' ' || conname || ' ' || pg_get_constraintdef(oid)
+            FROM pg_constraint
+            WHERE connamespace = current_schema()::regnamespace
+            ORDER BY 1
+            """;
+
+    // Ids stay bigserial on legacy databases instead of identity columns; both take generated values alike
+    private static final String COLUMNS = """
+            SELECT table_name || '.' || column_name || ' ' || data_type || ' ' || is_nullable
+                   || ' ' || coalesce(column_default, '')
+            FROM information_schema.columns
+            WHERE table_schema = current_schema() AND column_name <> 'id'
+            ORDER BY 1
+            """;
+
+    private static JdbcTemplate fresh;
+    private static JdbcTemplate legacy;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        fresh = new JdbcTemplate(migrated(TestDatabase.createDatabase("schema_fresh"), false));
+        legacy = new JdbcTemplate(migrated(TestDatabase.createDatabase("schema_legacy"), true));
+    }
+
+    @Test
+    void legacyDatabaseEndsUpWithTheFreshConstraintsAndColumns() {
+        assertThat(legacy.queryForList(CONSTRAINTS, String.class))
+                .containsExactlyElementsOf(fresh.queryForList(CONSTRAINTS, String.class));
+        assertThat(legacy.queryForList(COLUMNS, String.class))
+                .containsExactlyElementsOf(fresh.queryForList(COLUMNS, String.class));
+    }
+
+    @Test
+    void duplicateRolesAreFoldedAndUsersMayShareARole() {
+        assertThat(legacy.queryForObject("SELECT count(*) FROM roles WHERE role = 'CHILD'", Integer.class)).isEqualTo(1);
+        assertThat(legacy.queryForList("SELECT DISTINCT role_id FROM users WHERE username LIKE 'legacy\\_child\\_%'",
+                Long.class)).hasSize(1);
+
+        legacy.update("""
+                INSERT INTO users (username, email, password, role_id, created_at, updated_at)
+                SELECT 'legacy_child_3', 'legacy_child_3@test.lms', 'x', id, now(), now() FROM roles WHERE role = 'CHILD'
+                """);
+        assertThat(legacy.queryForObject("SELECT is_deleted FROM users WHERE username = 'legacy_child_3'", Boolean.class))
+                .isFalse();
+    }
+
+    @Test
+    void migratingAgainChangesNothing() {
+        List<String> constraints = legacy.queryForList(CONSTRAINTS, String.class);
+
+        flyway(legacy.getDataSource(), true).migrate();
+
+        assertThat(legacy.queryForList(CONSTRAINTS, String.class)).isEqualTo(constraints);
+    }
+
+    private static DataSource migrated(String url, boolean fromLegacySchema) {
+        DataSource dataSource = new DriverManagerDataSource(url, "postgres", "postgres");
+        if (fromLegacySchema) {
+            new ResourceDatabasePopulator(new ClassPathResource("db/legacy/hibernate-ddl-auto.sql")).execute(dataSource);
+        }
+        flyway(dataSource, fromLegacySchema).migrate();
+        return dataSource;
+    }
+
+    private static Flyway flyway(DataSource dataSource, boolean baselineOnMigrate) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(baselineOnMigrate)
+                .baselineVersion("1")
+                .load();
+    }
+}
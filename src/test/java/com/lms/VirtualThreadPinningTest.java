@@ -0,0 +1,94 @@
+package com.lms;
+
+import com.lms.support.IntegrationTest;
+import com.lms.support.TestData.Family;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives logins and authenticated reads concurrently with virtual threads on and fewer pooled connections than
+ * requests, so request threads block on the pool and on JDBC, and fails if any of them parks while pinned to its
+ * carrier. Pinning is read from JFR's {@code jdk.VirtualThreadPinned} events rather than {@code jdk.tracePinnedThreads}:
+ * on JDK 21 that flag prints from the pinned thread itself and can hang it on the output stream's lock.
+ */
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=4"
+})
+class VirtualThreadPinningTest extends IntegrationTest {
+
+    private static final int CONCURRENCY = 16;
+    private static final int ROUNDS = 4;
+
+    private final List<String> pinnedEvents = new CopyOnWriteArrayList<>();
+    private RecordingStream recording;
+
+    @BeforeEach
+    void watchForPinning() {
+        recording = new RecordingStream();
+        recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+        recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.add(describe(event)));
+        recording.startAsync();
+    }
+
+    @AfterEach
+    void stopWatching() {
+        recording.close();
+    }
+
+    @Test
+    void loginAndAuthenticatedReadsDoNotPinCarrierThreads() throws Exception {
+        Family family = data().family(2, 3);
+        String child = family.childUsernames().get(0);
+        String parent = family.parentUsername();
+
+        try (ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY)) {
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Future<HttpStatusCode>> responses = new ArrayList<>();
+                for (int i = 0; i < CONCURRENCY; i++) {
+                    String username = i % 2 == 0 ? child : parent;
+                    responses.add(clients.submit(() -> {
+                        String token = login(username);
+                        String path = username.equals(child)
+                                ? "/api/v1/roles"
+                                : "/api/v1/parent/" + family.parentId() + "/overview";
+                        return rest.exchange(path, HttpMethod.GET, bearer(token), String.class).getStatusCode();
+                    }));
+                }
+                for (Future<HttpStatusCode> response : responses) {
+                    assertThat(response.get()).isEqualTo(HttpStatus.OK);
+                }
+            }
+        }
+        recording.stop();
+
+        assertThat(pinnedEvents).as("jdk.VirtualThreadPinned events").isEmpty();
+    }
+
+    private static String describe(RecordedEvent event) {
+        StringBuilder description = new StringBuilder("pinned for ").append(event.getDuration());
+        if (event.getStackTrace() != null) {
+            event.getStackTrace().getFrames().stream().limit(12).forEach(frame -> description.append("\n    at ")
+                    .append(frame.getMethod().getType().getName()).append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber()));
+        }
+        return description.toString();
+    }
+}
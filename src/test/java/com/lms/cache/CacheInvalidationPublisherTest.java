@@ -0,0 +1,84 @@
+package com.lms.cache;
+
+import com.lms.config.CacheInvalidationProperties;
+import com.lms.entity.Course;
+import com.lms.support.TestDatabase;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Messages published from many threads at once must reach other nodes in sequence order,
+ * or every receiver sees a gap and flushes its caches.
+ */
+class CacheInvalidationPublisherTest {
+
+    private static final int THREADS = 8;
+    private static final int MESSAGES_PER_THREAD = 100;
+
+    @Test
+    void concurrentPublishersAreSentInSequenceOrder() throws Exception {
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        properties.setChannel("test_cache_invalidation");
+        int total = THREADS * MESSAGES_PER_THREAD;
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl(TestDatabase.createDatabase("cache_invalidation"));
+            dataSource.setUsername("postgres");
+            dataSource.setPassword("postgres");
+
+            try (Connection listener = dataSource.getConnection();
+                 CacheInvalidationPublisher publisher = new CacheInvalidationPublisher(dataSource, properties)) {
+                try (Statement statement = listener.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+
+                ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+                CountDownLatch start = new CountDownLatch(1);
+                for (int t = 0; t < THREADS; t++) {
+                    int thread = t;
+                    threads.execute(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        // Outside a transaction every call numbers and queues its message right away
+                        for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+                            publisher.publishAfterCommit(Course.class.getName(), thread * MESSAGES_PER_THREAD + i);
+                        }
+                    });
+                }
+                start.countDown();
+                threads.shutdown();
+                assertThat(threads.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+                List<Long> sequences = new ArrayList<>();
+                PGConnection notifications = listener.unwrap(PGConnection.class);
+                while (sequences.size() < total) {
+                    PGNotification[] received = notifications.getNotifications(10_000);
+                    assertThat(received).as("notifications after %d of %d", sequences.size(), total).isNotEmpty();
+                    for (PGNotification notification : received) {
+                        sequences.add(CacheInvalidationMessage.parse(notification.getParameter()).getSequence());
+                    }
+                }
+
+                assertThat(sequences).containsExactlyElementsOf(LongStream.rangeClosed(1, total).boxed().toList());
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.lms.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lms.support.IntegrationTest;
+import com.lms.support.TestData.Family;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Only admins, the enrolled child and parents of the child's family may change an enrollment's progress
+ * or read its history.
+ */
+class EnrollmentOwnershipTest extends IntegrationTest {
+
+    private Family family;
+    private Family otherFamily;
+    private long enrollmentId;
+
+    @BeforeEach
+    void createFamilies() {
+        family = data().family(2, 1);
+        otherFamily = data().family(1, 1);
+        enrollmentId = family.enrollmentIds().get(0);
+    }
+
+    @Test
+    void enrolledChildParentAndAdminMayIncrement() {
+        assertThat(increment(family.childUsernames().get(0))).isEqualTo(HttpStatus.OK);
+        assertThat(increment(family.parentUsername())).isEqualTo(HttpStatus.OK);
+        assertThat(increment(ADMIN)).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void othersMayNotIncrement() {
+        assertThat(increment(otherFamily.childUsernames().get(0))).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(increment(otherFamily.parentUsername())).isEqualTo(HttpStatus.FORBIDDEN);
+        // A sibling is in the family but is not the enrolled child, and is not a parent
+        assertThat(increment(family.childUsernames().get(1))).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(progress()).isZero();
+    }
+
+    @Test
+    void othersMayNotSetProgress() {
+        String token = login(otherFamily.parentUsername());
+        HttpStatusCode status = rest.exchange("/api/v1/enrollments/{id}/progress", HttpMethod.PUT,
+                bearer(token, Map.of("progressPercentage", 100, "version", 0)), JsonNode.class, enrollmentId)
+                .getStatusCode();
+
+        assertThat(status).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(progress()).isZero();
+    }
+
+    @Test
+    void unknownEnrollmentIsForbiddenForNonAdmins() {
+        String token = login(family.childUsernames().get(0));
+        HttpStatusCode status = rest.exchange("/api/v1/enrollments/{id}/progress/increment", HttpMethod.POST,
+                bearer(token, Map.of("delta", 1)), JsonNode.class, Long.MAX_VALUE).getStatusCode();
+
+        assertThat(status).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void historyIsReadableByTheFamilyAndAdminOnly() {
+        assertThat(history(family.childUsernames().get(0))).isEqualTo(HttpStatus.OK);
+        assertThat(history(family.parentUsername())).isEqualTo(HttpStatus.OK);
+        assertThat(history(ADMIN)).isEqualTo(HttpStatus.OK);
+        assertThat(history(otherFamily.childUsernames().get(0))).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(history(otherFamily.parentUsername())).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    private HttpStatusCode history(String username) {
+        return rest.exchange("/api/v1/enrollments/{id}/progress-history", HttpMethod.GET,
+                bearer(login(username)), JsonNode.class, enrollmentId).getStatusCode();
+    }
+
+    private HttpStatusCode increment(String username) {
+        return rest.exchange("/api/v1/enrollments/{id}/progress/increment", HttpMethod.POST,
+                bearer(login(username), Map.of("delta", 1)), JsonNode.class, enrollmentId).getStatusCode();
+    }
+
+    private int progress() {
+        return jdbcTemplate.queryForObject("SELECT progress_percentage FROM enrollments WHERE id = ?",
+                Integer.class, enrollmentId);
+    }
+}
@@ -0,0 +1,83 @@
+package com.lms.controller;
+
+import com.lms.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports a million enrollments through the HTTP endpoint with a heap much smaller than the export.
+ * Runs in the constrained-heap surefire execution (see pom.xml), so any buffering of the result set or the
+ * response body fails with an OutOfMemoryError instead of passing.
+ */
+class ExportHeapTest extends IntegrationTest {
+
+    private static final int USERS = 1_000;
+    private static final int COURSES = 1_000;
+    private static final long MAX_HEAP = 256L * 1024 * 1024;
+
+    @Test
+    void exportsAMillionEnrollmentsWithinASmallHeap() throws Exception {
+        assertThat(Runtime.getRuntime().maxMemory())
+                .as("heap limit; run through the constrained-heap execution")
+                .isLessThanOrEqualTo(MAX_HEAP);
+
+        jdbcTemplate.update("""
+                INSERT INTO users (username, email, password, role_id, is_active, created_at, updated_at)
+                SELECT 'heap_child_' || g, 'heap_child_' || g || '@test.lms', 'x', r.id, true, now(), now()
+                FROM generate_series(1, ?) g CROSS JOIN roles r WHERE r.role = 'CHILD'
+                """, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO courses (title, description, category, is_active, created_at, updated_at)
+                SELECT 'Heap course ' || g, 'Generated for the export heap test', 'CHILD', true, now(), now()
+                FROM generate_series(1, ?) g
+                """, COURSES);
+        jdbcTemplate.update("""
+                INSERT INTO enrollments (child_id, course_id, progress_percentage, is_completed, version, created_at, updated_at)
+                SELECT u.id, c.id, (u.id + c.id) % 101, (u.id + c.id) % 101 = 100, 0, now(), now()
+                FROM users u CROSS JOIN courses c
+                WHERE u.username LIKE 'heap\\_child\\_%' AND c.title LIKE 'Heap course %'
+                """);
+        long expected = jdbcTemplate.queryForObject("SELECT count(*) FROM enrollments WHERE is_deleted = false", Long.class);
+        assertThat(expected).isGreaterThanOrEqualTo((long) USERS * COURSES);
+
+        String token = login(ADMIN);
+        long[] linesAndBytes = rest.execute("/api/v1/admin/exports/enrollments?format=NDJSON", HttpMethod.GET,
+                request -> request.getHeaders().setBearerAuth(token),
+                response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    return countLines(response.getBody());
+                });
+
+        assertThat(linesAndBytes[0]).isEqualTo(expected);
+        assertThat(linesAndBytes[1])
+                .as("bytes streamed, which must exceed the heap for the test to mean anything")
+                .isGreaterThan(Runtime.getRuntime().maxMemory());
+    }
+
+    private static long[] countLines(InputStream body) throws java.io.IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long lines = 0;
+        long bytes = 0;
+        boolean first = true;
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            if (first) {
+                assertThat(new String(buffer, 0, Math.min(read, 200), StandardCharsets.UTF_8)).startsWith("{\"enrollmentId\":");
+                first = false;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+            bytes += read;
+        }
+        return new long[]{lines, bytes};
+    }
+}
@@ -0,0 +1,95 @@
+package com.lms.controller;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lms.support.IntegrationTest;
+import com.lms.support.TestData.Family;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * With open-in-view off, the session closes when the service returns, so anything serialized afterwards must
+ * already be loaded. The endpoints that map lazy associations are called end to end and must neither fail nor
+ * log a {@link LazyInitializationException}.
+ */
+class OpenInViewDisabledTest extends IntegrationTest {
+
+    @Value("${spring.jpa.open-in-view}")
+    private boolean openInView;
+
+    private final ListAppender<ILoggingEvent> logged = new ListAppender<>();
+
+    @BeforeEach
+    void captureLogs() {
+        logged.start();
+        root().addAppender(logged);
+    }
+
+    @AfterEach
+    void stopCapturingLogs() {
+        root().detachAppender(logged);
+        logged.stop();
+    }
+
+    @Test
+    void rolesAreSerializedWithTheirPermissions() {
+        assertThat(openInView).isFalse();
+        String token = login(data().family(1, 0).childUsernames().get(0));
+
+        ResponseEntity<JsonNode> response = rest.exchange("/api/v1/roles", HttpMethod.GET, bearer(token), JsonNode.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode roles = response.getBody().path("data");
+        assertThat(roles.size()).isGreaterThan(1);
+        assertThat(roles).anySatisfy(role -> assertThat(role.path("permissions").size()).isPositive());
+        assertNoLazyInitializationLogged();
+    }
+
+    @Test
+    void familyOverviewIsSerializedWithChildrenAndEnrollments() {
+        assertThat(openInView).isFalse();
+        Family family = data().family(2, 2);
+        String token = login(family.parentUsername());
+
+        ResponseEntity<JsonNode> response = rest.exchange("/api/v1/parent/{id}/overview", HttpMethod.GET,
+                bearer(token), JsonNode.class, family.parentId());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode children = response.getBody().path("data").path("children");
+        assertThat(children.size()).isEqualTo(2);
+        assertThat(children).allSatisfy(child -> {
+            assertThat(child.path("userName").asText()).isNotEmpty();
+            assertThat(child.path("totalEnrollments").asLong()).isEqualTo(2);
+        });
+        assertNoLazyInitializationLogged();
+    }
+
+    private void assertNoLazyInitializationLogged() {
+        assertThat(logged.list).filteredOn(OpenInViewDisabledTest::isLazyInitializationFailure).isEmpty();
+    }
+
+    private static boolean isLazyInitializationFailure(ILoggingEvent event) {
+        for (IThrowableProxy thrown = event.getThrowableProxy(); thrown != null; thrown = thrown.getCause()) {
+            if (thrown.getClassName().equals(LazyInitializationException.class.getName())) {
+                return true;
+            }
+        }
+        return event.getFormattedMessage().contains("could not initialize proxy");
+    }
+
+    private static Logger root() {
+        return (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    }
+}
@@ -0,0 +1,64 @@
+package com.lms.controller;
+
+import com.lms.metrics.SqlStatementCapture;
+import com.lms.support.IntegrationTest;
+import com.lms.support.TestData.Family;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets for endpoints that used to issue one query per row. The budget includes the JWT filter's
+ * user lookup; the second-level cache is cleared first so cached roles and permissions cannot hide a regression.
+ */
+@AutoConfigureMockMvc
+class StatementBudgetTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void rolesAreListedWithTheirPermissionsInOneQuery() throws Exception {
+        String token = login(data().family(1, 0).childUsernames().get(0));
+        long roles = jdbcTemplate.queryForObject("SELECT count(*) FROM roles", Long.class);
+        assertThat(roles).isGreaterThan(2);
+        entityManagerFactory.getCache().evictAll();
+
+        try (SqlStatementCapture capture = SqlStatementCapture.start()) {
+            mockMvc.perform(get("/api/v1/roles").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isOk());
+            capture.assertAtMost(2);
+        }
+    }
+
+    @Test
+    void familyOverviewDoesNotGrowWithChildrenOrEnrollments() throws Exception {
+        int small = overviewStatements(data().family(1, 1));
+        int large = overviewStatements(data().family(4, 3));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    private int overviewStatements(Family family) throws Exception {
+        String token = login(family.parentUsername());
+        entityManagerFactory.getCache().evictAll();
+
+        try (SqlStatementCapture capture = SqlStatementCapture.start()) {
+            mockMvc.perform(get("/api/v1/parent/{id}/overview", family.parentId())
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isOk());
+            capture.assertAtMost(3);
+            return capture.getStatementCount();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.lms.metrics;
+
+import java.util.List;
+
+/**
+ * Counts the Hibernate statements issued on the current thread while open, for asserting query budgets
+ * in integration tests. MockMvc requests run on the calling thread, so they are included:
+ * <pre>
+ * try (SqlStatementCapture capture = SqlStatementCapture.start()) {
+ *     mockMvc.perform(get("/api/v1/parent/1/overview")).andExpect(status().isOk());
+ *     capture.assertAtMost(3);
+ * }
+ * </pre>
+ * Against a running server, read the {@code db} entry of the {@code Server-Timing} header instead.
+ */
+public final class SqlStatementCapture implements AutoCloseable {
+
+    private final RequestStatistics statistics;
+
+    private SqlStatementCapture(RequestStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Start capturing on the current thread
+     *
+     * @return the capture, to be closed on the same thread
+     */
+    public static SqlStatementCapture start() {
+        return new SqlStatementCapture(RequestStatistics.begin(true));
+    }
+
+    public int getStatementCount() {
+        return statistics.getStatements();
+    }
+
+    public List<String> getStatements() {
+        return statistics.getStatementSql();
+    }
+
+    /**
+     * Fail if more than {@code max} statements were issued
+     *
+     * @param max the statement budget
+     * @throws AssertionError listing the captured statements when over budget
+     */
+    public void assertAtMost(int max) {
+        if (statistics.getStatements() > max) {
+            throw new AssertionError("Expected at most " + max + " SQL statements but " + statistics.getStatements()
+                    + " were issued:\n  " + String.join("\n  ", statistics.getStatementSql()));
+        }
+    }
+
+    @Override
+    public void close() {
+        RequestStatistics.end();
+    }
+}
@@ -0,0 +1,55 @@
+package com.lms.security;
+
+import com.lms.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The application port serves only the health probes without a token; metrics are scraped from the management port.
+ * Metrics export is off in tests by default, so it is switched back on for the scrape.
+ */
+@AutoConfigureObservability(tracing = false)
+class ActuatorExposureTest extends IntegrationTest {
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void managementRunsOnItsOwnPort() {
+        assertThat(managementPort).isNotEqualTo(serverPort);
+    }
+
+    @Test
+    void applicationPortServesProbesOnly() {
+        assertThat(rest.getForEntity("/livez", String.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(rest.getForEntity("/readyz", String.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(rest.getForEntity("/actuator/prometheus", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(rest.getForEntity("/actuator/health", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void managementPortServesMetricsAndHealth() {
+        ResponseEntity<String> scrape = rest.getForEntity(management("/actuator/prometheus"), String.class);
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody()).contains("lms_auth_filter");
+
+        assertThat(rest.getForEntity(management("/actuator/health/readiness"), String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    private String management(String path) {
+        return "http://localhost:" + managementPort + path;
+    }
+}
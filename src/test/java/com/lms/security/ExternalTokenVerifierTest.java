@@ -0,0 +1,75 @@
+package com.lms.security;
+
+import com.lms.entity.Role;
+import com.lms.service.RoleRegistry;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * External tokens carry the roles claim as a JSON array, as the identity provider issues it.
+ */
+class ExternalTokenVerifierTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private ExternalTokenVerifier verifier;
+
+    @BeforeEach
+    void createVerifier() {
+        RoleRegistry roleRegistry = mock(RoleRegistry.class);
+        when(roleRegistry.contains(any())).thenAnswer(invocation -> invocation.getArgument(0) != null);
+        verifier = new ExternalTokenVerifier(SECRET, roleRegistry);
+    }
+
+    @Test
+    void listValuedRolesClaimResolvesTheRole() {
+        ExternalTokenPayload payload = verifier.verify(token(List.of("CHILD")));
+
+        assertThat(payload.getRole()).isEqualTo(Role.CHILD);
+        assertThat(payload.getUsername()).isEqualTo("student42");
+        assertThat(payload.getUserId()).isEqualTo(42L);
+    }
+
+    @Test
+    void firstRoleOfTheListIsUsed() {
+        assertThat(verifier.verify(token(List.of("DECIDING_PARENT", "CHILD"))).getRole())
+                .isEqualTo(Role.DECIDING_PARENT);
+    }
+
+    @Test
+    void commaSeparatedRolesClaimIsStillAccepted() {
+        assertThat(verifier.verify(token("NON_DECIDING_PARENT")).getRole()).isEqualTo(Role.NON_DECIDING_PARENT);
+    }
+
+    @Test
+    void tokenWithoutSupportedRoleIsRejected() {
+        assertThatThrownBy(() -> verifier.verify(token(List.of("ADMIN"))))
+                .isInstanceOf(TokenValidationException.class)
+                .hasMessage("Token is missing required claims");
+        assertThatThrownBy(() -> verifier.verify(token(List.of())))
+                .isInstanceOf(TokenValidationException.class);
+    }
+
+    private static String token(Object roles) {
+        return Jwts.builder()
+                .subject("student42")
+                .claim("userId", 42)
+                .claim("roles", roles)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
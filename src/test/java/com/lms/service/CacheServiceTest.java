@@ -0,0 +1,64 @@
+package com.lms.service;
+
+import com.lms.entity.Course;
+import com.lms.entity.User;
+import com.lms.repository.CourseRepository;
+import com.lms.support.IntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Invalidations from other nodes evict what this node caches and leave everything else alone.
+ */
+class CacheServiceTest extends IntegrationTest {
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void cacheActiveCourses() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        courseRepository.findByIsActiveTrue();
+    }
+
+    @Test
+    void userInvalidationKeepsTheQueryCache() {
+        cacheService.evict(User.class.getName(), "1");
+
+        long hits = statistics.getQueryCacheHitCount();
+        courseRepository.findByIsActiveTrue();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void courseInvalidationEvictsTheQueryCache() {
+        cacheService.evict(Course.class.getName(), "1");
+
+        long hits = statistics.getQueryCacheHitCount();
+        courseRepository.findByIsActiveTrue();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits);
+    }
+
+    @Test
+    void unknownNamesAreIgnored() {
+        cacheService.evict(UserAvailabilityService.NAMES_INVALIDATION, "[[\"someone\",\"someone@test.lms\"]]");
+
+        long hits = statistics.getQueryCacheHitCount();
+        courseRepository.findByIsActiveTrue();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits + 1);
+    }
+}
@@ -0,0 +1,38 @@
+package com.lms.service;
+
+import com.lms.support.IntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Names published by other nodes reach the availability filter without a query.
+ */
+class UserAvailabilityServiceTest extends IntegrationTest {
+
+    @Autowired
+    private UserAvailabilityService availabilityService;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void namesFromAnotherNodeAreAddedToTheFilter() {
+        String username = "remote" + System.nanoTime();
+        assertThat(availabilityService.isUsernameAvailable(username)).isTrue();
+        double filtered = filteredChecks();
+
+        availabilityService.evict(UserAvailabilityService.NAMES_INVALIDATION,
+                "[[\"" + username + "\",\"" + username + "@test.lms\"]]");
+
+        // The filter now holds the name, so the check falls through to the database, which does not have it
+        assertThat(availabilityService.isUsernameAvailable(username)).isTrue();
+        assertThat(filteredChecks()).isEqualTo(filtered);
+    }
+
+    private double filteredChecks() {
+        return registry.get("lms.availability.checks").tags("field", "username", "result", "filtered").counter().count();
+    }
+}
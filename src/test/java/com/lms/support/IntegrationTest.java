@@ -0,0 +1,71 @@
+package com.lms.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Base class for tests that run the whole application on a random port against {@link TestDatabase}.
+ * Flyway migrates the schema and seeds the reference data (roles and the superadmin) as it does in production.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public abstract class IntegrationTest {
+
+    protected static final String ADMIN = "superadmin";
+
+    @Autowired
+    protected TestRestTemplate rest;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    private TestData data;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", TestDatabase::jdbcUrl);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    protected TestData data() {
+        if (data == null) {
+            data = new TestData(jdbcTemplate);
+        }
+        return data;
+    }
+
+    /**
+     * Log in with the fixture password and return the bearer token
+     */
+    protected String login(String username) {
+        ResponseEntity<JsonNode> response = rest.postForEntity("/api/v1/auth/login",
+                Map.of("usernameOrEmail", username, "password", TestData.PASSWORD), JsonNode.class);
+        assertThat(response.getStatusCode()).as("login of %s", username).isEqualTo(HttpStatus.OK);
+        return response.getBody().path("data").path("token").asText();
+    }
+
+    protected static HttpEntity<Object> bearer(String token) {
+        return bearer(token, null);
+    }
+
+    protected static HttpEntity<Object> bearer(String token, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return new HttpEntity<>(body, headers);
+    }
+}
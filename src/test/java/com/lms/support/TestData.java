@@ -0,0 +1,102 @@
+package com.lms.support;
+
+import com.lms.entity.Role;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Inserts fixture rows with plain SQL, bypassing the application so tests see only what they call.
+ * Names carry a JVM-wide sequence number because tests share one database.
+ */
+public class TestData {
+
+    /** Password of every fixture user */
+    public static final String PASSWORD = "Admin@123";
+
+    private static final String PASSWORD_HASH = "$2a$10$lJJ640PgrhG7Gyrs8HHJMOTkhlEQU1h00iD8pmvYzKHfRclzkHTzK";
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestData(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * A parent with its user and children, where each child has a user and is enrolled in new courses
+     *
+     * @param parentId         ID of the parent row
+     * @param parentUsername   login of the parent
+     * @param childUsernames   logins of the children, in insertion order
+     * @param childUserIds     user IDs of the children, in the same order
+     * @param enrollmentIds    enrollments of all children, child by child
+     */
+    public record Family(long parentId, String parentUsername, List<String> childUsernames,
+                         List<Long> childUserIds, List<Long> enrollmentIds) {
+    }
+
+    public Family family(int children, int coursesPerChild) {
+        long n = SEQUENCE.incrementAndGet();
+        long parentId = jdbcTemplate.queryForObject("""
+                INSERT INTO parent (name, user_name, parent_type, created_at, updated_at)
+                VALUES (?, ?, 'DECIDING', now(), now()) RETURNING id
+                """, Long.class, "Parent " + n, "t_parent_" + n);
+        String parentUsername = "t_parent_" + n;
+        insertUser(parentUsername, Role.DECIDING_PARENT, parentId, null);
+
+        List<String> childUsernames = new ArrayList<>();
+        List<Long> childUserIds = new ArrayList<>();
+        List<Long> enrollmentIds = new ArrayList<>();
+        for (int c = 0; c < children; c++) {
+            String username = "t_child_" + n + "_" + c;
+            long childId = jdbcTemplate.queryForObject("""
+                    INSERT INTO child (name, user_name, parent_id, created_at, updated_at)
+                    VALUES (?, ?, ?, now(), now()) RETURNING id
+                    """, Long.class, "Child " + n + "/" + c, username, parentId);
+            long childUserId = insertUser(username, Role.CHILD, null, childId);
+            childUsernames.add(username);
+            childUserIds.add(childUserId);
+            for (int e = 0; e < coursesPerChild; e++) {
+                enrollmentIds.add(enroll(childUserId, course("Course " + n + "/" + c + "/" + e)));
+            }
+        }
+        return new Family(parentId, parentUsername, childUsernames, childUserIds, enrollmentIds);
+    }
+
+    /**
+     * A user with the given role and no family
+     *
+     * @return the username
+     */
+    public String user(Role role) {
+        String username = "t_" + role.name().toLowerCase() + "_" + SEQUENCE.incrementAndGet();
+        insertUser(username, role, null, null);
+        return username;
+    }
+
+    public long course(String title) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO courses (title, description, category, is_active, created_at, updated_at)
+                VALUES (?, ?, 'CHILD', true, now(), now()) RETURNING id
+                """, Long.class, title, title);
+    }
+
+    public long enroll(long childUserId, long courseId) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO enrollments (child_id, course_id, progress_percentage, is_completed, version, created_at, updated_at)
+                VALUES (?, ?, 0, false, 0, now(), now()) RETURNING id
+                """, Long.class, childUserId, courseId);
+    }
+
+    private long insertUser(String username, Role role, Long parentId, Long childId) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, password, role_id, is_active, parent_id, child_id, created_at, updated_at)
+                SELECT ?, ?, ?, r.id, true, ?, ?, now(), now() FROM roles r WHERE r.role = ?
+                RETURNING id
+                """, Long.class, username, username + "@test.lms", PASSWORD_HASH, parentId, childId, role.name());
+    }
+}
@@ -0,0 +1,62 @@
+package com.lms.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * One embedded Postgres per test JVM, started on first use and stopped when the JVM exits.
+ * Application contexts cached by the Spring test framework share it, so test data must not rely on an empty database.
+ */
+public final class TestDatabase {
+
+    private static EmbeddedPostgres postgres;
+
+    private TestDatabase() {
+    }
+
+    public static String jdbcUrl() {
+        return server().getJdbcUrl("postgres", "postgres");
+    }
+
+    /**
+     * Create an empty database next to the application's one
+     *
+     * @return its JDBC URL
+     */
+    public static String createDatabase(String name) throws SQLException {
+        EmbeddedPostgres server = server();
+        try (Connection connection = server.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + name);
+            statement.execute("CREATE DATABASE " + name);
+        }
+        return server.getJdbcUrl("postgres", name);
+    }
+
+    private static synchronized EmbeddedPostgres server() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder()
+                        .setServerConfig("max_connections", "100")
+                        .start();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not start embedded Postgres", ex);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(TestDatabase::stop, "embedded-postgres-stop"));
+        }
+        return postgres;
+    }
+
+    private static void stop() {
+        try {
+            postgres.close();
+        } catch (IOException ignored) {
+            // The data directory is temporary; nothing else to clean up
+        }
+    }
+}
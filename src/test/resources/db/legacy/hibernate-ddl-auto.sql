@@ -0,0 +1,204 @@
+-- Schema as Hibernate's ddl-auto=update created it before the schema moved to Flyway, with its generated
+-- constraint names, the unique constraints of the old @OneToOne mappings and no column defaults.
+-- The rows reproduce what that mapping forced: one role row per user, so roles are duplicated.
+
+create table child (
+    is_deleted boolean not null,
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    external_child_id bigint,
+    id bigserial not null,
+    parent_id bigint not null,
+    updated_at timestamp(6) not null,
+    version bigint default 0 not null,
+    created_by varchar(100),
+    deleted_by varchar(100),
+    updated_by varchar(100),
+    case_number varchar(255),
+    gender varchar(255),
+    name varchar(255),
+    user_name varchar(255),
+    primary key (id)
+);
+
+create table courses (
+    is_active boolean,
+    is_deleted boolean not null,
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    id bigserial not null,
+    updated_at timestamp(6) not null,
+    version bigint default 0 not null,
+    created_by varchar(100),
+    deleted_by varchar(100),
+    updated_by varchar(100),
+    category varchar(255),
+    description varchar(255),
+    title varchar(255),
+    primary key (id)
+);
+
+create table enrollments (
+    is_completed boolean,
+    progress_percentage integer,
+    child_id bigint not null,
+    course_id bigint not null,
+    id bigserial not null,
+    version bigint default 0 not null,
+    primary key (id)
+);
+
+create table parent (
+    is_deleted boolean not null,
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    external_child_id bigint,
+    id bigserial not null,
+    updated_at timestamp(6) not null,
+    version bigint default 0 not null,
+    created_by varchar(100),
+    deleted_by varchar(100),
+    updated_by varchar(100),
+    gender varchar(255),
+    name varchar(255),
+    parent_type varchar(255) check (parent_type in ('DECIDING','NON_DECIDING')),
+    user_email varchar(255),
+    user_name varchar(255),
+    primary key (id)
+);
+
+create table permission (
+    is_deleted boolean not null,
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    id bigserial not null,
+    updated_at timestamp(6) not null,
+    version bigint default 0 not null,
+    created_by varchar(100),
+    deleted_by varchar(100),
+    updated_by varchar(100),
+    description varchar(255),
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table role_permissions (
+    permission_id bigint not null,
+    role_id bigint not null,
+    primary key (role_id, permission_id)
+);
+
+create table roles (
+    is_deleted boolean not null,
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    id bigserial not null,
+    updated_at timestamp(6) not null,
+    version bigint default 0 not null,
+    role varchar(20) not null check (role in ('ADMIN','DECIDING_PARENT','NON_DECIDING_PARENT','CHILD')),
+    created_by varchar(100),
+    deleted_by varchar(100),
+    updated_by varchar(100),
+    description varchar(255),
+    primary key (id)
+);
+
+create table users (
+    is_active boolean not null,
+    is_deleted boolean not null,
+    child_id bigint,
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    id bigserial not null,
+    parent_id bigint,
+    role_id bigint not null,
+    updated_at timestamp(6) not null,
+    version bigint default 0 not null,
+    username varchar(50) not null,
+    created_by varchar(100),
+    deleted_by varchar(100),
+    email varchar(100) not null,
+    updated_by varchar(100),
+    password varchar(255) not null,
+    primary key (id)
+);
+
+alter table if exists child
+   add constraint FK7dag1cncltpyhoc2mbwka356h
+   foreign key (parent_id)
+   references parent;
+
+alter table if exists enrollments
+   add constraint FKm1qf7iooods8yl0n6s8i1t4rr
+   foreign key (child_id)
+   references users;
+
+alter table if exists enrollments
+   add constraint FKho8mcicp4196ebpltdn9wl6co
+   foreign key (course_id)
+   references courses;
+
+alter table if exists role_permissions
+   add constraint FKh0v7u4w7mttcu81o8wegayr8e
+   foreign key (permission_id)
+   references permission;
+
+alter table if exists role_permissions
+   add constraint FKn5fotdgk8d1xvo8nav9uv3muc
+   foreign key (role_id)
+   references roles;
+
+alter table if exists users
+   add constraint FKf5t9m4axpyohebqj2s3il7n0j
+   foreign key (child_id)
+   references child;
+
+alter table if exists users
+   add constraint FK1ttyhlmfo25mi57i2v9c5mhl6
+   foreign key (parent_id)
+   references parent;
+
+alter table if exists users
+   add constraint FKp56c1712k691lhsyewcssf40f
+   foreign key (role_id)
+   references roles;
+
+alter table if exists permission
+   add constraint UK_2ojme20jpga3r4r79tdso17gi unique (name);
+
+alter table if exists users
+   add constraint UK_3b202qti11qhmw6b6d61ex9bq unique (child_id);
+
+alter table if exists users
+   add constraint UK_td7rkphgwhhgunswiyk8u0mvu unique (parent_id);
+
+alter table if exists users
+   add constraint UK_krvotbtiqhudlkamvlpaqus0t unique (role_id);
+
+alter table if exists users
+   add constraint UK_r43af9ap4edm43mmtq01oddj6 unique (username);
+
+alter table if exists users
+   add constraint UK_6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+insert into roles (id, role, description, is_deleted, created_at, updated_at) values
+    (1, 'ADMIN', 'Administrator', false, now(), now()),
+    (2, 'CHILD', 'Child', false, now(), now()),
+    (3, 'CHILD', 'Child', false, now(), now());
+select setval(pg_get_serial_sequence('roles', 'id'), 3);
+
+insert into permission (id, name, description, is_deleted, created_at, updated_at) values
+    (1, 'USER_READ', 'Read user details', false, now(), now());
+select setval(pg_get_serial_sequence('permission', 'id'), 1);
+
+insert into role_permissions (role_id, permission_id) values (2, 1), (3, 1);
+
+insert into users (username, email, password, role_id, is_active, is_deleted, created_at, updated_at) values
+    ('legacy_admin', 'legacy_admin@test.lms', 'x', 1, true, false, now(), now()),
+    ('legacy_child_1', 'legacy_child_1@test.lms', 'x', 2, true, false, now(), now()),
+    ('legacy_child_2', 'legacy_child_2@test.lms', 'x', 3, true, false, now(), now());
+
+insert into courses (title, is_active, is_deleted, created_at, updated_at) values ('Legacy course', true, false, now(), now());
+
+insert into enrollments (child_id, course_id, progress_percentage, is_completed)
+select u.id, c.id, null, false from users u, courses c where u.username = 'legacy_child_1';